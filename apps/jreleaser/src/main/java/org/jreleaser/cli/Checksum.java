@@ -27,6 +27,10 @@ import picocli.CommandLine;
  */
 @CommandLine.Command(name = "checksum")
 public class Checksum extends AbstractPlatformAwareModelCommand {
+    @CommandLine.Option(names = {"-pl", "--parallelism"},
+        paramLabel = "<threads>")
+    Integer parallelism;
+
     @CommandLine.ArgGroup(headingKey = "filter.header")
     Composite composite;
 
@@ -46,6 +50,9 @@ public class Checksum extends AbstractPlatformAwareModelCommand {
             context.setIncludedDistributions(collectEntries(composite.includedDistributions));
             context.setExcludedDistributions(collectEntries(composite.excludedDistributions));
         }
+        if (null != parallelism && parallelism > 0) {
+            context.getModel().getChecksum().setParallelism(parallelism);
+        }
         Workflows.checksum(context).execute();
     }
 }
@@ -27,7 +27,10 @@ import org.jreleaser.util.FileUtils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Andres Almiray
@@ -56,12 +59,33 @@ public class ArchiveAssemblerProcessor extends AbstractAssemblerProcessor<Archiv
         context.getLogger().debug(RB.$("assembler.copy.files"), context.relativizeToBasedir(archiveDirectory));
         copyFileSets(context, archiveDirectory);
 
+        if (assembler.getFormats().size() > 1) {
+            // read the work directory once, encode all formats at the same time
+            archive(workDirectory, assembleDirectory, archiveName, assembler.getFormats());
+            return;
+        }
+
         // run archive x format
         for (Archive.Format format : assembler.getFormats()) {
             archive(workDirectory, assembleDirectory, archiveName, format);
         }
     }
 
+    private void archive(Path workDirectory, Path assembleDirectory, String archiveName, Set<Archive.Format> formats) throws AssemblerProcessingException {
+        List<Path> archiveFiles = new ArrayList<>();
+        for (Archive.Format format : formats) {
+            String finalArchiveName = archiveName + "." + format.extension();
+            context.getLogger().info("- {}", finalArchiveName);
+            archiveFiles.add(assembleDirectory.resolve(finalArchiveName));
+        }
+
+        try {
+            FileUtils.archive(workDirectory, archiveFiles, assembler.getCompressionThreads());
+        } catch (IOException e) {
+            throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e);
+        }
+    }
+
     private void archive(Path workDirectory, Path assembleDirectory, String archiveName, Archive.Format format) throws AssemblerProcessingException {
         String finalArchiveName = archiveName + "." + format.extension();
         context.getLogger().info("- {}", finalArchiveName);
@@ -70,14 +94,14 @@ public class ArchiveAssemblerProcessor extends AbstractAssemblerProcessor<Archiv
             Path archiveFile = assembleDirectory.resolve(finalArchiveName);
             switch (format) {
                 case ZIP:
-                    FileUtils.zip(workDirectory, archiveFile);
+                    FileUtils.zip(workDirectory, archiveFile, assembler.getCompressionThreads());
                     break;
                 case TAR:
                     FileUtils.tar(workDirectory, archiveFile);
                     break;
                 case TGZ:
                 case TAR_GZ:
-                    FileUtils.tgz(workDirectory, archiveFile);
+                    FileUtils.tgz(workDirectory, archiveFile, assembler.getCompressionThreads());
                     break;
                 case TAR_BZ2:
                     FileUtils.bz2(workDirectory, archiveFile);
@@ -25,6 +25,8 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.Jlink;
 import org.jreleaser.model.Project;
 import org.jreleaser.model.assembler.spi.AssemblerProcessingException;
+import org.jreleaser.model.util.GlobIndex;
+import org.jreleaser.util.ConcurrencyUtils;
 import org.jreleaser.util.Constants;
 import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.PlatformUtils;
@@ -36,11 +38,15 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.stream.Collectors.toSet;
@@ -79,49 +85,88 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<Jlin
 
         Path assembleDirectory = (Path) props.get(Constants.KEY_DISTRIBUTION_ASSEMBLE_DIRECTORY);
         Path inputsDirectory = assembleDirectory.resolve("inputs");
+        Path jarsDirectory = inputsDirectory.resolve("jars");
 
-        // run jlink x jdk
-        String imageName = assembler.getResolvedImageName(context);
+        // copy jars to assembly, universal jars are shared by all targets
+        Path universalJarsDirectory = jarsDirectory.resolve("universal");
+        context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(universalJarsDirectory));
+        copyJars(context, universalJarsDirectory, "");
+
+        Set<String> platformsWithJars = new LinkedHashSet<>();
         for (Artifact targetJdk : assembler.getTargetJdks()) {
             String platform = targetJdk.getPlatform();
-            String platformReplaced = assembler.getPlatform().applyReplacements(platform);
-            // copy jars to assembly
-            Path jarsDirectory = inputsDirectory.resolve("jars");
-            Path universalJarsDirectory = jarsDirectory.resolve("universal");
-            context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(universalJarsDirectory));
-            Set<Path> jars = copyJars(context, universalJarsDirectory, "");
-            Path platformJarsDirectory = inputsDirectory.resolve("jars").resolve(platform);
+            Path platformJarsDirectory = jarsDirectory.resolve(platform);
             context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(platformJarsDirectory));
-            jars.addAll(copyJars(context, platformJarsDirectory, platform));
-
-            // resolve module names
-            Set<String> moduleNames = resolveModuleNames(context, jdkPath, jarsDirectory, platform);
-            context.getLogger().debug(RB.$("assembler.resolved.module.names"), moduleNames);
-            if (moduleNames.isEmpty()) {
-                throw new AssemblerProcessingException(RB.$("ERROR_assembler_no_module_names"));
+            if (!copyJars(context, platformJarsDirectory, platform).isEmpty()) {
+                platformsWithJars.add(platform);
             }
-            moduleNames.addAll(assembler.getAdditionalModuleNames());
-            if (isNotBlank(assembler.getModuleName())) {
-                moduleNames.add(assembler.getModuleName());
+        }
+
+        // targets without platform specific jars share the same set of modules
+        Set<String> sharedModuleNames = null;
+        for (Artifact targetJdk : assembler.getTargetJdks()) {
+            if (!platformsWithJars.contains(targetJdk.getPlatform())) {
+                sharedModuleNames = resolveModuleNames(context, jdkPath, jarsDirectory, targetJdk.getPlatform());
+                break;
             }
-            context.getLogger().debug(RB.$("assembler.module.names"), moduleNames);
-
-            String str = targetJdk.getExtraProperties()
-                .getOrDefault("archiveFormat", "ZIP")
-                .toString();
-            Archive.Format archiveFormat = Archive.Format.of(str);
-
-            Artifact image = jlink(assembleDirectory, jdkPath, targetJdk, moduleNames, imageName, archiveFormat);
-            if (isNotBlank(assembler.getImageNameTransform())) {
-                image.setTransform(assembler.getResolvedImageNameTransform(context) + "-" +
-                    platformReplaced + "."+
-                    archiveFormat.extension());
-                image.getEffectivePath(context);
+        }
+
+        Set<Path> files = resolveFiles(context);
+
+        // run jlink x jdk
+        String imageName = assembler.getResolvedImageName(context);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Artifact targetJdk : assembler.getTargetJdks()) {
+            Set<String> moduleNames = platformsWithJars.contains(targetJdk.getPlatform()) ? null : sharedModuleNames;
+            tasks.add(() -> {
+                assembleImage(assembleDirectory, jdkPath, targetJdk, moduleNames, imageName, files);
+                return null;
+            });
+        }
+
+        try {
+            ConcurrencyUtils.invokeAll("jlink", assembler.getParallelism(), tasks);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof AssemblerProcessingException) {
+                throw (AssemblerProcessingException) e.getCause();
             }
+            throw e;
+        }
+    }
+
+    private void assembleImage(Path assembleDirectory, Path jdkPath, Artifact targetJdk, Set<String> resolvedModuleNames, String imageName, Set<Path> files) throws AssemblerProcessingException {
+        String platform = targetJdk.getPlatform();
+        String platformReplaced = assembler.getPlatform().applyReplacements(platform);
+        Path jarsDirectory = assembleDirectory.resolve("inputs").resolve("jars");
+
+        // resolve module names
+        Set<String> moduleNames = new LinkedHashSet<>(null != resolvedModuleNames ? resolvedModuleNames :
+            resolveModuleNames(context, jdkPath, jarsDirectory, platform));
+        context.getLogger().debug(RB.$("assembler.resolved.module.names"), moduleNames);
+        if (moduleNames.isEmpty()) {
+            throw new AssemblerProcessingException(RB.$("ERROR_assembler_no_module_names"));
+        }
+        moduleNames.addAll(assembler.getAdditionalModuleNames());
+        if (isNotBlank(assembler.getModuleName())) {
+            moduleNames.add(assembler.getModuleName());
+        }
+        context.getLogger().debug(RB.$("assembler.module.names"), moduleNames);
+
+        String str = targetJdk.getExtraProperties()
+            .getOrDefault("archiveFormat", "ZIP")
+            .toString();
+        Archive.Format archiveFormat = Archive.Format.of(str);
+
+        Artifact image = jlink(assembleDirectory, jdkPath, targetJdk, moduleNames, imageName, archiveFormat, files);
+        if (isNotBlank(assembler.getImageNameTransform())) {
+            image.setTransform(assembler.getResolvedImageNameTransform(context) + "-" +
+                platformReplaced + "."+
+                archiveFormat.extension());
+            image.getEffectivePath(context);
         }
     }
 
-    private Artifact jlink(Path assembleDirectory, Path jdkPath, Artifact targetJdk, Set<String> moduleNames, String imageName, Archive.Format archiveFormat) throws AssemblerProcessingException {
+    private Artifact jlink(Path assembleDirectory, Path jdkPath, Artifact targetJdk, Set<String> moduleNames, String imageName, Archive.Format archiveFormat, Set<Path> files) throws AssemblerProcessingException {
         String platform = targetJdk.getPlatform();
         String platformReplaced = assembler.getPlatform().applyReplacements(platform);
         String finalImageName = imageName + "-" + platformReplaced;
@@ -209,19 +254,19 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<Jlin
 
         try {
             Path imageArchive = assembleDirectory.resolve(finalImageName + "." + archiveFormat.extension());
-            copyFiles(context, imageDirectory);
+            copyFiles(context, files, imageDirectory);
             copyFileSets(context, imageDirectory);
 
             switch (archiveFormat) {
                 case ZIP:
-                    FileUtils.zip(workDirectory, imageArchive);
+                    FileUtils.zip(workDirectory, imageArchive, assembler.getCompressionThreads());
                     break;
                 case TAR:
                     FileUtils.tar(workDirectory, imageArchive);
                     break;
                 case TGZ:
                 case TAR_GZ:
-                    FileUtils.tgz(workDirectory, imageArchive);
+                    FileUtils.tgz(workDirectory, imageArchive, assembler.getCompressionThreads());
                     break;
                 case TAR_BZ2:
                     FileUtils.bz2(workDirectory, imageArchive);
@@ -266,15 +311,21 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<Jlin
             paths.add(assembler.getMainJar().getEffectivePath(context, assembler));
         }
 
+        List<Glob> jars = new ArrayList<>();
         for (Glob glob : assembler.getJars()) {
             if ((isBlank(platform) && isBlank(glob.getPlatform())) ||
                 (isNotBlank(platform) && PlatformUtils.isCompatible(platform, glob.getPlatform()))) {
-                glob.getResolvedArtifacts(context).stream()
-                    .map(artifact -> artifact.getResolvedPath(context, assembler))
-                    .forEach(paths::add);
+                jars.add(glob);
             }
         }
 
+        GlobIndex index = new GlobIndex(context, jars);
+        for (Glob glob : jars) {
+            glob.getResolvedArtifacts(context, index).stream()
+                .map(artifact -> artifact.getResolvedPath(context, assembler))
+                .forEach(paths::add);
+        }
+
         // copy all next
         try {
             Files.createDirectories(jarsDirectory);
@@ -289,17 +340,20 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<Jlin
         return paths;
     }
 
-    private Set<Path> copyFiles(JReleaserContext context, Path destination) throws AssemblerProcessingException {
+    private Set<Path> resolveFiles(JReleaserContext context) {
         Set<Path> paths = new LinkedHashSet<>();
 
-        // resolve all first
+        GlobIndex index = new GlobIndex(context, assembler.getFiles());
         for (Glob glob : assembler.getFiles()) {
-            glob.getResolvedArtifacts(context).stream()
+            glob.getResolvedArtifacts(context, index).stream()
                 .map(artifact -> artifact.getResolvedPath(context, assembler))
                 .forEach(paths::add);
         }
 
-        // copy all next
+        return paths;
+    }
+
+    private void copyFiles(JReleaserContext context, Set<Path> paths, Path destination) throws AssemblerProcessingException {
         try {
             Files.createDirectories(destination);
             for (Path path : paths) {
@@ -309,8 +363,6 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<Jlin
         } catch (IOException e) {
             throw new AssemblerProcessingException(RB.$("ERROR_assembler_copying_files"), e);
         }
-
-        return paths;
     }
 
     private Set<String> resolveModuleNames(JReleaserContext context, Path jdkPath, Path jarsDirectory, String platform) throws AssemblerProcessingException {
@@ -24,6 +24,7 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.NativeImage;
 import org.jreleaser.model.Project;
 import org.jreleaser.model.assembler.spi.AssemblerProcessingException;
+import org.jreleaser.model.util.GlobIndex;
 import org.jreleaser.util.Constants;
 import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.PlatformUtils;
@@ -224,8 +225,9 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
 
         // resolve all first
         paths.add(assembler.getMainJar().getEffectivePath(context, assembler));
+        GlobIndex index = new GlobIndex(context, assembler.getJars());
         for (Glob glob : assembler.getJars()) {
-            glob.getResolvedArtifacts(context).stream()
+            glob.getResolvedArtifacts(context, index).stream()
                 .map(artifact -> artifact.getResolvedPath(context, assembler))
                 .forEach(paths::add);
         }
@@ -248,8 +250,9 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
         Set<Path> paths = new LinkedHashSet<>();
 
         // resolve all first
+        GlobIndex index = new GlobIndex(context, assembler.getFiles());
         for (Glob glob : assembler.getFiles()) {
-            glob.getResolvedArtifacts(context).stream()
+            glob.getResolvedArtifacts(context, index).stream()
                 .map(artifact -> artifact.getResolvedPath(context, assembler))
                 .forEach(paths::add);
         }
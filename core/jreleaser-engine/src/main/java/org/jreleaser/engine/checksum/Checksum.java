@@ -25,14 +25,19 @@ import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.util.Artifacts;
 import org.jreleaser.util.Algorithm;
 import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrencyUtils;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.jreleaser.model.Checksum.KEY_SKIP_CHECKSUM;
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -47,16 +52,16 @@ public class Checksum {
         context.getLogger().increaseIndent();
         context.getLogger().setPrefix("checksum");
 
-        Map<Algorithm, List<String>> checksums = new LinkedHashMap<>();
+        Set<Algorithm> algorithms = context.getModel().getChecksum().getAlgorithms();
+        List<Artifact> artifacts = new ArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        ChecksumIndex index = ChecksumIndex.load(context);
 
         if (context.getModel().getChecksum().isFiles()) {
             for (Artifact artifact : Artifacts.resolveFiles(context)) {
                 if (!artifact.isActive() || artifact.extraPropertyIsTrue(KEY_SKIP_CHECKSUM)) continue;
-                for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
-                    readHash(context, algorithm, artifact);
-                    List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
-                    list.add(artifact.getHash(algorithm) + "  " + artifact.getEffectivePath(context).getFileName());
-                }
+                artifacts.add(artifact);
+                tasks.add(() -> readHashes(context, index, algorithms, artifact));
             }
         }
 
@@ -65,11 +70,22 @@ public class Checksum {
 
             for (Artifact artifact : distribution.getArtifacts()) {
                 if (!artifact.isActive()) continue;
-                for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
-                    readHash(context, distribution, algorithm, artifact);
-                    List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
-                    list.add(artifact.getHash(algorithm) + "  " + artifact.getEffectivePath(context).getFileName());
-                }
+                artifacts.add(artifact);
+                tasks.add(() -> readHashes(context, index, distribution, algorithms, artifact));
+            }
+        }
+
+        try {
+            ConcurrencyUtils.runAll("checksum", context.getModel().getChecksum().getParallelism(), tasks);
+        } finally {
+            index.save(context);
+        }
+
+        Map<Algorithm, List<String>> checksums = new LinkedHashMap<>();
+        for (Artifact artifact : artifacts) {
+            for (Algorithm algorithm : algorithms) {
+                List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
+                list.add(artifact.getHash(algorithm) + "  " + artifact.getEffectivePath(context).getFileName());
             }
         }
 
@@ -116,47 +132,68 @@ public class Checksum {
         context.getLogger().decreaseIndent();
     }
 
-    public static void readHash(JReleaserContext context, Distribution distribution, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+    /**
+     * Reads or calculates hashes through {@code index}. Callers load the index once and save it
+     * once they are done with all artifacts.
+     */
+    public static void readHashes(JReleaserContext context, ChecksumIndex index, Distribution distribution, Collection<Algorithm> algorithms, Artifact artifact) throws JReleaserException {
         Path artifactPath = artifact.getEffectivePath(context, distribution);
-        Path checksumPath = context.getChecksumsDirectory().resolve(distribution.getName())
-            .resolve(artifactPath.getFileName() + "." + algorithm.formatted());
+        Path checksumsDirectory = context.getChecksumsDirectory().resolve(distribution.getName());
 
-        readHash(context, algorithm, artifact, artifactPath, checksumPath);
+        readHashes(context, index, algorithms, artifact, artifactPath, checksumsDirectory);
     }
 
-    public static void readHash(JReleaserContext context, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+    public static void readHashes(JReleaserContext context, ChecksumIndex index, Collection<Algorithm> algorithms, Artifact artifact) throws JReleaserException {
         Path artifactPath = artifact.getEffectivePath(context);
-        Path checksumPath = context.getChecksumsDirectory()
-            .resolve(artifactPath.getFileName() + "." + algorithm.formatted());
 
-        readHash(context, algorithm, artifact, artifactPath, checksumPath);
+        readHashes(context, index, algorithms, artifact, artifactPath, context.getChecksumsDirectory());
     }
 
-    private static void readHash(JReleaserContext context,
-                                 Algorithm algorithm,
-                                 Artifact artifact,
-                                 Path artifactPath,
-                                 Path checksumPath) throws JReleaserException {
+    private static void readHashes(JReleaserContext context,
+                                   ChecksumIndex index,
+                                   Collection<Algorithm> algorithms,
+                                   Artifact artifact,
+                                   Path artifactPath,
+                                   Path checksumsDirectory) throws JReleaserException {
         if (!Files.exists(artifactPath)) {
             throw new JReleaserException(RB.$("ERROR_artifact_does_not_exist", context.relativizeToBasedir(artifactPath)));
         }
 
-        if (!Files.exists(checksumPath)) {
-            context.getLogger().debug(RB.$("checksum.not.exist"), context.relativizeToBasedir(checksumPath));
-            calculateHash(context, artifactPath, checksumPath, algorithm);
-        } else if (artifactPath.toFile().lastModified() > checksumPath.toFile().lastModified()) {
-            context.getLogger().debug(RB.$("checksum.file.newer"),
-                context.relativizeToBasedir(artifactPath),
-                context.relativizeToBasedir(checksumPath));
-            calculateHash(context, artifactPath, checksumPath, algorithm);
-        }
-
         try {
-            context.getLogger().debug(RB.$("checksum.reading"),
-                context.relativizeToBasedir(checksumPath));
-            artifact.setHash(algorithm, new String(Files.readAllBytes(checksumPath)));
+            String identity = index.identity(artifactPath);
+
+            Map<Algorithm, Path> outdated = new LinkedHashMap<>();
+            for (Algorithm algorithm : algorithms) {
+                Path checksumPath = checksumsDirectory.resolve(artifactPath.getFileName() + "." + algorithm.formatted());
+                String hash = index.get(artifactPath, identity, algorithm);
+
+                if (null == hash) {
+                    outdated.put(algorithm, checksumPath);
+                    continue;
+                }
+
+                artifact.setHash(algorithm, hash);
+                if (!Files.exists(checksumPath)) {
+                    context.getLogger().debug(RB.$("checksum.not.exist"), context.relativizeToBasedir(checksumPath));
+                    writeHash(checksumPath, hash);
+                }
+            }
+
+            if (outdated.isEmpty()) {
+                index.hit();
+                context.getLogger().debug(RB.$("checksum.index.hit"), context.relativizeToBasedir(artifactPath));
+                return;
+            }
+
+            index.miss();
+            context.getLogger().debug(RB.$("checksum.index.miss"), context.relativizeToBasedir(artifactPath));
+            Map<Algorithm, String> hashes = calculateHashes(context, artifactPath, outdated);
+            hashes.forEach((algorithm, hash) -> {
+                artifact.setHash(algorithm, hash);
+                index.put(artifactPath, identity, algorithm, hash);
+            });
         } catch (IOException e) {
-            throw new JReleaserException(RB.$("ERROR_unexpected_error_hash_read", context.relativizeToBasedir(checksumPath)), e);
+            throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", artifactPath), e);
         }
     }
 
@@ -165,14 +202,30 @@ public class Checksum {
     }
 
     public static String calculateHash(JReleaserContext context, Path input, Path output, Algorithm algorithm) throws JReleaserException {
+        return calculateHashes(context, input, Collections.singletonMap(algorithm, output)).get(algorithm);
+    }
+
+    public static Map<Algorithm, String> calculateHashes(JReleaserContext context, Path input, Map<Algorithm, Path> outputs) throws JReleaserException {
         try {
-            context.getLogger().info("{}.{}", context.relativizeToBasedir(input), algorithm.formatted());
-            String hashcode = ChecksumUtils.checksum(algorithm, Files.readAllBytes(input));
-            output.toFile().getParentFile().mkdirs();
-            Files.write(output, hashcode.getBytes());
-            return hashcode;
+            for (Algorithm algorithm : outputs.keySet()) {
+                context.getLogger().info("{}.{}", context.relativizeToBasedir(input), algorithm.formatted());
+            }
+
+            Map<Algorithm, String> hashes = ChecksumUtils.checksum(outputs.keySet(), input);
+            for (Map.Entry<Algorithm, Path> e : outputs.entrySet()) {
+                writeHash(e.getValue(), hashes.get(e.getKey()));
+            }
+            return hashes;
         } catch (IOException e) {
             throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", input), e);
         }
     }
+
+    private static void writeHash(Path output, String hash) throws IOException {
+        output.toFile().getParentFile().mkdirs();
+        // write to a sibling first, concurrent readers must never observe a partial checksum
+        Path tmp = Files.createTempFile(output.getParent(), output.getFileName().toString(), ".tmp");
+        Files.write(tmp, hash.getBytes());
+        Files.move(tmp, output, StandardCopyOption.REPLACE_EXISTING);
+    }
 }
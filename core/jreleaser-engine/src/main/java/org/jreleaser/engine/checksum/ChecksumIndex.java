@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.checksum;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.PropertiesFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Persistent index of calculated checksums keyed by file identity (path, size, mtime, file key).
+ * Stored as a properties file inside the checksums directory.
+ *
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class ChecksumIndex {
+    private static final String INDEX_FILE_NAME = "checksums.index";
+    private static final String SEPARATOR = "|";
+
+    private final Path file;
+    private final Map<String, String> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    private ChecksumIndex(Path file) {
+        this.file = file;
+    }
+
+    public static ChecksumIndex load(JReleaserContext context) {
+        ChecksumIndex index = new ChecksumIndex(context.getChecksumsDirectory().resolve(INDEX_FILE_NAME));
+
+        try {
+            Properties properties = PropertiesFile.load(index.file);
+            for (String key : properties.stringPropertyNames()) {
+                index.entries.put(key, properties.getProperty(key));
+            }
+        } catch (IOException e) {
+            context.getLogger().debug(RB.$("checksum.index.invalid"), context.relativizeToBasedir(index.file));
+            index.entries.clear();
+        }
+
+        return index;
+    }
+
+    String identity(Path path) throws IOException {
+        return PropertiesFile.identity(path);
+    }
+
+    String get(Path path, String identity, Algorithm algorithm) {
+        String value = entries.get(key(path, algorithm));
+        if (null == value) return null;
+
+        int separator = value.lastIndexOf(SEPARATOR);
+        if (separator < 0 || !identity.equals(value.substring(0, separator))) return null;
+        return value.substring(separator + 1);
+    }
+
+    void put(Path path, String identity, Algorithm algorithm, String hash) {
+        entries.put(key(path, algorithm), identity + SEPARATOR + hash);
+    }
+
+    void hit() {
+        hits.incrementAndGet();
+    }
+
+    void miss() {
+        misses.incrementAndGet();
+    }
+
+    public void save(JReleaserContext context) {
+        context.getLogger().info(RB.$("checksum.index.stats"), hits.get(), misses.get());
+
+        // drop entries for files that no longer exist
+        Properties properties = new Properties();
+        entries.forEach((key, value) -> {
+            if (Files.exists(Paths.get(key.substring(0, key.lastIndexOf('#'))))) {
+                properties.setProperty(key, value);
+            }
+        });
+
+        try {
+            PropertiesFile.store(file, properties);
+        } catch (IOException e) {
+            context.getLogger().warn(RB.$("checksum.index.write.error"), context.relativizeToBasedir(file));
+            context.getLogger().trace(e);
+        }
+    }
+
+    private String key(Path path, Algorithm algorithm) {
+        return path.toAbsolutePath().normalize() + "#" + algorithm.formatted();
+    }
+}
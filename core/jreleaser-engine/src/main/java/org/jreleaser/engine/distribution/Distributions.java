@@ -18,12 +18,24 @@
 package org.jreleaser.engine.distribution;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.model.Artifact;
 import org.jreleaser.model.Distribution;
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.JReleaserException;
+import org.jreleaser.model.RepositoryTool;
+import org.jreleaser.model.Tool;
 import org.jreleaser.model.tool.spi.ToolProcessingException;
+import org.jreleaser.util.ConcurrencyUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 /**
  * @author Andres Almiray
@@ -38,6 +50,7 @@ public class Distributions {
             return;
         }
 
+        List<ToolTask> tasks = new ArrayList<>();
         if (!context.getIncludedDistributions().isEmpty()) {
             for (String distributionName : context.getIncludedDistributions()) {
                 Distribution distribution = activeDistributions.stream()
@@ -56,12 +69,10 @@ public class Distributions {
                             continue;
                         }
 
-                        context.getLogger().info(RB.$("distributions.apply.action"), action);
-
-                        processDistribution(context, action, distribution, packagerName, function);
+                        tasks.add(new ToolTask(distribution, packagerName));
                     }
                 } else {
-                    processDistribution(context, action, distribution, function);
+                    collectTasks(context, distribution, tasks);
                 }
             }
         } else if (!context.getIncludedPackagers().isEmpty()) {
@@ -71,52 +82,132 @@ public class Distributions {
                     continue;
                 }
 
-                context.getLogger().info(RB.$("distributions.apply.action"), action);
                 for (Distribution distribution : activeDistributions) {
-                    processDistribution(context, action, distribution, packagerName, function);
+                    tasks.add(new ToolTask(distribution, packagerName));
                 }
             }
         } else {
             // process all
-            context.getLogger().info(RB.$("distributions.apply.action"), action);
             for (Distribution distribution : activeDistributions) {
                 if (context.getExcludedDistributions().contains(distribution.getName())) {
                     context.getLogger().info(RB.$("distributions.distribution.excluded"), distribution.getName());
                     continue;
                 }
 
-                processDistribution(context, action, distribution, function);
+                collectTasks(context, distribution, tasks);
             }
         }
-    }
 
-    private static void processDistribution(JReleaserContext context, String action, Distribution distribution, ToolProcessingFunction function) {
-        context.getLogger().increaseIndent();
-        context.getLogger().info(RB.$("distributions.apply.action.to"), action, distribution.getName());
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        context.getLogger().info(RB.$("distributions.apply.action"), action);
+
+        int parallelism = context.getModel().getPackagers().getParallelism();
+        if (parallelism <= 1) {
+            processSequentially(context, action, tasks, function);
+        } else {
+            processConcurrently(context, parallelism, tasks, function);
+        }
+    }
 
+    private static void collectTasks(JReleaserContext context, Distribution distribution, List<ToolTask> tasks) {
         for (String packagerName : Distribution.supportedPackagers()) {
             if (context.getExcludedPackagers().contains(packagerName)) {
                 context.getLogger().info(RB.$("packagers.packager.excluded"), packagerName);
                 continue;
             }
-            processTool(context, distribution, packagerName, function);
+            tasks.add(new ToolTask(distribution, packagerName));
         }
+    }
+
+    private static void processSequentially(JReleaserContext context, String action, List<ToolTask> tasks, ToolProcessingFunction function) {
+        Distribution current = null;
+        for (ToolTask task : tasks) {
+            if (task.distribution != current) {
+                if (null != current) context.getLogger().decreaseIndent();
+                current = task.distribution;
+                context.getLogger().increaseIndent();
+                context.getLogger().info(RB.$("distributions.apply.action.to"), action, current.getName());
+            }
 
+            processTool(context, task.distribution, task.packagerName, task.packagerName, function);
+        }
         context.getLogger().decreaseIndent();
     }
 
-    private static void processDistribution(JReleaserContext context, String action, Distribution distribution, String packagerName, ToolProcessingFunction function) {
+    private static void processConcurrently(JReleaserContext context, int parallelism, List<ToolTask> tasks, ToolProcessingFunction function) {
+        resolveArtifacts(context, tasks);
+
         context.getLogger().increaseIndent();
-        context.getLogger().info(RB.$("distributions.apply.action.to"), action, distribution.getName());
+        try {
+            runChains(parallelism, chain(tasks).values(), task -> processTool(context, task.distribution, task.packagerName,
+                task.distribution.getName() + "/" + task.packagerName, function));
+        } finally {
+            context.getLogger().decreaseIndent();
+        }
+    }
+
+    /**
+     * Packagers of a distribution share its artifacts, resolving their paths (and copying transformed
+     * artifacts) up front leaves nothing for concurrent packagers to write.
+     */
+    private static void resolveArtifacts(JReleaserContext context, List<ToolTask> tasks) {
+        Set<Distribution> distributions = new LinkedHashSet<>();
+        for (ToolTask task : tasks) {
+            distributions.add(task.distribution);
+        }
 
-        processTool(context, distribution, packagerName, function);
+        for (Distribution distribution : distributions) {
+            for (Artifact artifact : distribution.getArtifacts()) {
+                if (artifact.isActive()) artifact.getEffectivePath(context, distribution);
+            }
+        }
+    }
 
-        context.getLogger().decreaseIndent();
+    /**
+     * Groups tasks by the resource they lock. Tasks that push to the same repository depend on each
+     * other and keep their submission order, every other task is independent.
+     */
+    static Map<String, List<ToolTask>> chain(List<ToolTask> tasks) {
+        Map<String, List<ToolTask>> chains = new LinkedHashMap<>();
+        for (ToolTask task : tasks) {
+            chains.computeIfAbsent(resolveLockKey(task), k -> new ArrayList<>()).add(task);
+        }
+        return chains;
     }
 
-    private static void processTool(JReleaserContext context, Distribution distribution, String packagerName, ToolProcessingFunction function) {
+    /**
+     * Runs chains concurrently and the tasks of each chain in order. The first failure is rethrown,
+     * chains still running stop before their next task.
+     */
+    static void runChains(int parallelism, Collection<List<ToolTask>> chains, Consumer<ToolTask> action) {
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (List<ToolTask> chain : chains) {
+            workers.add(() -> {
+                for (ToolTask task : chain) {
+                    if (Thread.currentThread().isInterrupted()) break;
+                    action.accept(task);
+                }
+                return null;
+            });
+        }
+
+        ConcurrencyUtils.invokeAll("packagers", parallelism, workers);
+    }
+
+    private static String resolveLockKey(ToolTask task) {
+        Tool tool = task.distribution.findTool(task.packagerName);
+        if (tool instanceof RepositoryTool) {
+            return ((RepositoryTool) tool).getRepositoryTap().getCanonicalRepoName();
+        }
+        return task.distribution.getName() + "/" + task.packagerName;
+    }
+
+    private static void processTool(JReleaserContext context, Distribution distribution, String packagerName, String prefix, ToolProcessingFunction function) {
         context.getLogger().increaseIndent();
-        context.getLogger().setPrefix(packagerName);
+        context.getLogger().setPrefix(prefix);
         try {
             DistributionProcessor processor = createDistributionProcessor(context,
                 distribution,
@@ -125,9 +216,10 @@ public class Distributions {
             function.consume(processor);
         } catch (ToolProcessingException e) {
             throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
+        } finally {
+            context.getLogger().restorePrefix();
+            context.getLogger().decreaseIndent();
         }
-        context.getLogger().restorePrefix();
-        context.getLogger().decreaseIndent();
     }
 
     private static DistributionProcessor createDistributionProcessor(JReleaserContext context,
@@ -139,4 +231,14 @@ public class Distributions {
             .toolName(toolName)
             .build();
     }
+
+    static class ToolTask {
+        private final Distribution distribution;
+        private final String packagerName;
+
+        ToolTask(Distribution distribution, String packagerName) {
+            this.distribution = distribution;
+            this.packagerName = packagerName;
+        }
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.sign;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.PropertiesFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistent record of verified signatures. Each entry holds the identity and SHA-256 digest
+ * of the input file, the SHA-256 digest of its signature and the fingerprint of the signing key.
+ * The input digest is only recorded when verification computed it while reading the input.
+ *
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+class SignatureLedger {
+    private static final String LEDGER_FILE_NAME = "signatures.index";
+    private static final String SEPARATOR = "|";
+
+    private final Path file;
+    private final String fingerprint;
+    private final Map<String, String> entries = new ConcurrentHashMap<>();
+
+    private SignatureLedger(Path file, String fingerprint) {
+        this.file = file;
+        this.fingerprint = fingerprint;
+    }
+
+    static SignatureLedger load(JReleaserContext context, String fingerprint) {
+        SignatureLedger ledger = new SignatureLedger(context.getSignaturesDirectory().resolve(LEDGER_FILE_NAME), fingerprint);
+
+        try {
+            Properties properties = PropertiesFile.load(ledger.file);
+            for (String key : properties.stringPropertyNames()) {
+                ledger.entries.put(key, properties.getProperty(key));
+            }
+        } catch (IOException e) {
+            context.getLogger().debug(RB.$("signing.ledger.invalid"), context.relativizeToBasedir(ledger.file));
+            ledger.entries.clear();
+        }
+
+        return ledger;
+    }
+
+    boolean isValid(JReleaserContext context, Path input, Path signature) {
+        String value = entries.get(key(input, signature));
+        if (null == value) return false;
+
+        String[] parts = value.split("\\|", -1);
+        if (parts.length != 4 || !fingerprint.equals(parts[3])) return false;
+
+        try {
+            if (!parts[2].equals(digest(signature))) return false;
+
+            if (!parts[0].equals(PropertiesFile.identity(input))) {
+                // touched or restored, content may still be the same
+                if (parts[1].isEmpty() || !parts[1].equals(digest(input))) return false;
+                entries.put(key(input, signature), PropertiesFile.identity(input) + SEPARATOR + parts[1] +
+                    SEPARATOR + parts[2] + SEPARATOR + fingerprint);
+            }
+
+            context.getLogger().debug(RB.$("signing.signature.unchanged"), context.relativizeToBasedir(signature));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    void record(Path input, Path signature, String inputDigest) {
+        try {
+            entries.put(key(input, signature), PropertiesFile.identity(input) + SEPARATOR + (null != inputDigest ? inputDigest : "") +
+                SEPARATOR + digest(signature) + SEPARATOR + fingerprint);
+        } catch (IOException e) {
+            // entry will be recomputed on next run
+            entries.remove(key(input, signature));
+        }
+    }
+
+    void save(JReleaserContext context) {
+        // drop entries for files that no longer exist
+        Properties properties = new Properties();
+        entries.forEach((key, value) -> {
+            if (Files.exists(Paths.get(key.substring(0, key.lastIndexOf('#'))))) {
+                properties.setProperty(key, value);
+            }
+        });
+
+        try {
+            PropertiesFile.store(file, properties);
+        } catch (IOException e) {
+            context.getLogger().warn(RB.$("signing.ledger.write.error"), context.relativizeToBasedir(file));
+            context.getLogger().trace(e);
+        }
+    }
+
+    private String digest(Path path) throws IOException {
+        return ChecksumUtils.checksum(Collections.singletonList(Algorithm.SHA_256), path).get(Algorithm.SHA_256);
+    }
+
+    private String key(Path input, Path signature) {
+        return input.toAbsolutePath().normalize() + "#" + signature.getFileName();
+    }
+}
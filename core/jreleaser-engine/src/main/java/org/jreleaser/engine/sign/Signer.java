@@ -17,6 +17,8 @@
  */
 package org.jreleaser.engine.sign;
 
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.bouncycastle.bcpg.ArmoredOutputStream;
 import org.bouncycastle.bcpg.BCPGOutputStream;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
@@ -40,6 +42,7 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.Signing;
 import org.jreleaser.model.util.Artifacts;
 import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ConcurrencyUtils;
 import org.jreleaser.util.command.CommandException;
 import org.jreleaser.util.signing.GpgCommandSigner;
 import org.jreleaser.util.signing.Keyring;
@@ -47,16 +50,17 @@ import org.jreleaser.util.signing.SigningException;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.security.Security;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import static org.bouncycastle.bcpg.CompressionAlgorithmTags.UNCOMPRESSED;
@@ -67,6 +71,9 @@ import static org.jreleaser.model.Signing.KEY_SKIP_SIGNING;
  * @since 0.1.0
  */
 public class Signer {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
     static {
         // replace BC provider with our version
         Security.removeProvider(BouncyCastleProvider.PROVIDER_NAME);
@@ -95,7 +102,10 @@ public class Signer {
     }
 
     private static void cmdSign(JReleaserContext context) throws SigningException {
-        List<FilePair> files = collectArtifacts(context);
+        Signing signing = context.getModel().getSigning();
+        SignatureLedger ledger = SignatureLedger.load(context, "command:" + signing.getKeyName());
+
+        List<FilePair> files = collectArtifacts(context, ledger);
         if (files.isEmpty()) {
             context.getLogger().info(RB.$("signing.no.match"));
             context.getLogger().restorePrefix();
@@ -108,20 +118,26 @@ public class Signer {
             .collect(Collectors.toList());
 
         if (files.isEmpty()) {
+            ledger.save(context);
             context.getLogger().info(RB.$("signing.up.to.date"));
             context.getLogger().restorePrefix();
             context.getLogger().decreaseIndent();
             return;
         }
 
-        sign(context, files);
-        verify(context, files);
+        try {
+            sign(context, ledger, files);
+        } finally {
+            ledger.save(context);
+        }
     }
 
     private static void bcSign(JReleaserContext context) throws SigningException {
         Keyring keyring = context.createKeyring();
+        SignatureLedger ledger = SignatureLedger.load(context,
+            Hex.encodeHexString(keyring.readPublicKey().getFingerprint()));
 
-        List<FilePair> files = collectArtifacts(context, keyring);
+        List<FilePair> files = collectArtifacts(context, keyring, ledger);
         if (files.isEmpty()) {
             context.getLogger().info(RB.$("signing.no.match"));
             context.getLogger().restorePrefix();
@@ -134,46 +150,17 @@ public class Signer {
             .collect(Collectors.toList());
 
         if (files.isEmpty()) {
+            ledger.save(context);
             context.getLogger().info(RB.$("signing.up.to.date"));
             context.getLogger().restorePrefix();
             context.getLogger().decreaseIndent();
             return;
         }
 
-        sign(context, keyring, files);
-        verify(context, keyring, files);
-    }
-
-    private static void verify(JReleaserContext context, Keyring keyring, List<FilePair> files) throws SigningException {
-        if (null == keyring) {
-            verify(context, files);
-            return;
-        }
-
-        context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
-
-        for (FilePair pair : files) {
-            pair.setValid(verify(context, keyring, pair));
-
-            if (!pair.isValid()) {
-                throw new SigningException(RB.$("ERROR_signing_verify_file",
-                    context.relativizeToBasedir(pair.inputFile),
-                    context.relativizeToBasedir(pair.signatureFile)));
-            }
-        }
-    }
-
-    private static void verify(JReleaserContext context, List<FilePair> files) throws SigningException {
-        context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
-
-        for (FilePair pair : files) {
-            pair.setValid(verify(context, pair));
-
-            if (!pair.isValid()) {
-                throw new SigningException(RB.$("ERROR_signing_verify_file",
-                    context.relativizeToBasedir(pair.inputFile),
-                    context.relativizeToBasedir(pair.signatureFile)));
-            }
+        try {
+            sign(context, keyring, ledger, files);
+        } finally {
+            ledger.save(context);
         }
     }
 
@@ -184,37 +171,38 @@ public class Signer {
             context.getLogger().debug("{}",
                 context.relativizeToBasedir(filePair.signatureFile));
 
-            InputStream sigInputStream = PGPUtil.getDecoderStream(
-                new BufferedInputStream(
-                    new FileInputStream(filePair.signatureFile.toFile())));
-
-            PGPObjectFactory pgpObjFactory = new PGPObjectFactory(sigInputStream, keyring.getKeyFingerPrintCalculator());
-            Iterable<?> pgpSigList = null;
-
-            Object obj = pgpObjFactory.nextObject();
-            if (obj instanceof PGPCompressedData) {
-                PGPCompressedData c1 = (PGPCompressedData) obj;
-                pgpObjFactory = new PGPObjectFactory(c1.getDataStream(), keyring.getKeyFingerPrintCalculator());
-                pgpSigList = (Iterable<?>) pgpObjFactory.nextObject();
-            } else {
-                pgpSigList = (Iterable<?>) obj;
-            }
+            try (InputStream sigInputStream = PGPUtil.getDecoderStream(
+                new BufferedInputStream(Files.newInputStream(filePair.signatureFile)));
+                 InputStream fileInputStream = Files.newInputStream(filePair.inputFile)) {
+                PGPObjectFactory pgpObjFactory = new PGPObjectFactory(sigInputStream, keyring.getKeyFingerPrintCalculator());
+                Iterable<?> pgpSigList = null;
+
+                Object obj = pgpObjFactory.nextObject();
+                if (obj instanceof PGPCompressedData) {
+                    PGPCompressedData c1 = (PGPCompressedData) obj;
+                    pgpObjFactory = new PGPObjectFactory(c1.getDataStream(), keyring.getKeyFingerPrintCalculator());
+                    pgpSigList = (Iterable<?>) pgpObjFactory.nextObject();
+                } else {
+                    pgpSigList = (Iterable<?>) obj;
+                }
 
-            InputStream fileInputStream = new BufferedInputStream(new FileInputStream(filePair.inputFile.toFile()));
-            PGPSignature sig = (PGPSignature) pgpSigList.iterator().next();
-            PGPPublicKey pubKey = keyring.readPublicKey();
-            sig.init(new JcaPGPContentVerifierBuilderProvider()
-                .setProvider(BouncyCastleProvider.PROVIDER_NAME), pubKey);
+                PGPSignature sig = (PGPSignature) pgpSigList.iterator().next();
+                PGPPublicKey pubKey = keyring.readPublicKey();
+                sig.init(new JcaPGPContentVerifierBuilderProvider()
+                    .setProvider(BouncyCastleProvider.PROVIDER_NAME), pubKey);
+
+                // fingerprint the input for the ledger in the same pass
+                MessageDigest digest = DigestUtils.getSha256Digest();
+                byte[] buffer = BUFFER.get();
+                int read;
+                while ((read = fileInputStream.read(buffer)) != -1) {
+                    sig.update(buffer, 0, read);
+                    digest.update(buffer, 0, read);
+                }
 
-            int ch;
-            while ((ch = fileInputStream.read()) >= 0) {
-                sig.update((byte) ch);
+                filePair.setInputDigest(Hex.encodeHexString(digest.digest()));
+                return sig.verify();
             }
-
-            fileInputStream.close();
-            sigInputStream.close();
-
-            return sig.verify();
         } catch (IOException | PGPException e) {
             throw new SigningException(RB.$("ERROR_signing_verify_signature",
                 context.relativizeToBasedir(filePair.inputFile)), e);
@@ -240,7 +228,7 @@ public class Signer {
         }
     }
 
-    private static void sign(JReleaserContext context, List<FilePair> files) throws SigningException {
+    private static void sign(JReleaserContext context, SignatureLedger ledger, List<FilePair> files) throws SigningException {
         Path signaturesDirectory = context.getSignaturesDirectory();
 
         try {
@@ -254,9 +242,17 @@ public class Signer {
 
         GpgCommandSigner commandSigner = initCommandSigner(context);
 
+        List<Callable<Void>> tasks = new ArrayList<>();
         for (FilePair pair : files) {
-            sign(context, commandSigner, pair.inputFile, pair.signatureFile);
+            tasks.add(() -> {
+                sign(context, commandSigner, pair.inputFile, pair.signatureFile);
+                ensureValid(context, pair, verify(context, pair));
+                ledger.record(pair.inputFile, pair.signatureFile, pair.inputDigest);
+                return null;
+            });
         }
+
+        execute(context, tasks);
     }
 
     private static GpgCommandSigner initCommandSigner(JReleaserContext context) {
@@ -282,7 +278,7 @@ public class Signer {
         }
     }
 
-    private static void sign(JReleaserContext context, Keyring keyring, List<FilePair> files) throws SigningException {
+    private static void sign(JReleaserContext context, Keyring keyring, SignatureLedger ledger, List<FilePair> files) throws SigningException {
         Path signaturesDirectory = context.getSignaturesDirectory();
 
         try {
@@ -294,22 +290,66 @@ public class Signer {
         context.getLogger().debug(RB.$("signing.signing.files"),
             files.size(), context.relativizeToBasedir(signaturesDirectory));
 
-        PGPSignatureGenerator signatureGenerator = initSignatureGenerator(context.getModel().getSigning(), keyring);
+        PGPSecretKey secretKey = readSecretKey(keyring);
+        PGPPrivateKey privateKey = extractPrivateKey(context.getModel().getSigning(), secretKey);
 
+        List<Callable<Void>> tasks = new ArrayList<>();
         for (FilePair pair : files) {
-            sign(context, signatureGenerator, pair.inputFile, pair.signatureFile);
+            tasks.add(() -> {
+                // generators are stateful, each task gets its own one sharing the decrypted key
+                PGPSignatureGenerator signatureGenerator = initSignatureGenerator(secretKey, privateKey);
+                sign(context, signatureGenerator, pair.inputFile, pair.signatureFile);
+                ensureValid(context, pair, verify(context, keyring, pair));
+                ledger.record(pair.inputFile, pair.signatureFile, pair.inputDigest);
+                return null;
+            });
         }
+
+        execute(context, tasks);
     }
 
-    private static PGPSignatureGenerator initSignatureGenerator(Signing signing, Keyring keyring) throws SigningException {
+    private static void execute(JReleaserContext context, List<Callable<Void>> tasks) throws SigningException {
         try {
-            PGPSecretKey pgpSecretKey = keyring.getSecretKey();
+            ConcurrencyUtils.invokeAll("sign", context.getModel().getSigning().getParallelism(), tasks);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof SigningException) {
+                throw (SigningException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static void ensureValid(JReleaserContext context, FilePair pair, boolean valid) throws SigningException {
+        pair.setValid(valid);
 
-            PGPPrivateKey pgpPrivKey = pgpSecretKey.extractPrivateKey(
+        if (!pair.isValid()) {
+            throw new SigningException(RB.$("ERROR_signing_verify_file",
+                context.relativizeToBasedir(pair.inputFile),
+                context.relativizeToBasedir(pair.signatureFile)));
+        }
+    }
+
+    private static PGPSecretKey readSecretKey(Keyring keyring) throws SigningException {
+        try {
+            return keyring.getSecretKey();
+        } catch (PGPException e) {
+            throw new SigningException(RB.$("ERROR_unexpected_error_signature_gen"), e);
+        }
+    }
+
+    private static PGPPrivateKey extractPrivateKey(Signing signing, PGPSecretKey pgpSecretKey) throws SigningException {
+        try {
+            return pgpSecretKey.extractPrivateKey(
                 new JcePBESecretKeyDecryptorBuilder()
                     .setProvider(BouncyCastleProvider.PROVIDER_NAME)
                     .build(signing.getResolvedPassphrase().toCharArray()));
+        } catch (PGPException e) {
+            throw new SigningException(RB.$("ERROR_unexpected_error_signature_gen"), e);
+        }
+    }
 
+    private static PGPSignatureGenerator initSignatureGenerator(PGPSecretKey pgpSecretKey, PGPPrivateKey pgpPrivKey) throws SigningException {
+        try {
             PGPSignatureGenerator signatureGenerator = new PGPSignatureGenerator(
                 new JcaPGPContentSignerBuilder(pgpSecretKey.getPublicKey().getAlgorithm(), PGPUtil.SHA1)
                     .setProvider(BouncyCastleProvider.PROVIDER_NAME));
@@ -326,34 +366,33 @@ public class Signer {
         try {
             context.getLogger().info("{}", context.relativizeToBasedir(input));
 
-            OutputStream out = new BufferedOutputStream(new FileOutputStream(output.toFile()));
-            if (context.getModel().getSigning().isArmored()) {
-                out = new ArmoredOutputStream(out);
-            }
+            try (InputStream in = Files.newInputStream(input);
+                 OutputStream fileOut = new BufferedOutputStream(Files.newOutputStream(output))) {
+                byte[] buffer = BUFFER.get();
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    signatureGenerator.update(buffer, 0, read);
+                }
 
-            PGPCompressedDataGenerator compressionStreamGenerator = new PGPCompressedDataGenerator(UNCOMPRESSED);
-            BCPGOutputStream bOut = new BCPGOutputStream(compressionStreamGenerator.open(out));
+                OutputStream out = fileOut;
+                if (context.getModel().getSigning().isArmored()) {
+                    out = new ArmoredOutputStream(fileOut);
+                }
 
-            FileInputStream in = new FileInputStream(input.toFile());
+                PGPCompressedDataGenerator compressionStreamGenerator = new PGPCompressedDataGenerator(UNCOMPRESSED);
+                BCPGOutputStream bOut = new BCPGOutputStream(compressionStreamGenerator.open(out));
+                signatureGenerator.generate().encode(bOut);
+                compressionStreamGenerator.close();
 
-            int ch;
-            while ((ch = in.read()) >= 0) {
-                signatureGenerator.update((byte) ch);
+                out.flush();
+                out.close();
             }
-
-            signatureGenerator.generate().encode(bOut);
-
-            compressionStreamGenerator.close();
-
-            in.close();
-            out.flush();
-            out.close();
         } catch (IOException | PGPException e) {
             throw new SigningException(RB.$("ERROR_unexpected_error_signing", input.toAbsolutePath()), e);
         }
     }
 
-    private static List<FilePair> collectArtifacts(JReleaserContext context, Keyring keyring) {
+    private static List<FilePair> collectArtifacts(JReleaserContext context, Keyring keyring, SignatureLedger ledger) {
         List<FilePair> files = new ArrayList<>();
 
         Path signaturesDirectory = context.getSignaturesDirectory();
@@ -365,7 +404,7 @@ public class Signer {
                 Path input = artifact.getEffectivePath(context);
                 Path output = signaturesDirectory.resolve(input.getFileName().toString().concat(extension));
                 FilePair pair = new FilePair(input, output);
-                pair.setValid(isValid(context, keyring, pair));
+                pair.setValid(isValid(context, keyring, ledger, pair));
                 files.add(pair);
             }
         }
@@ -379,7 +418,7 @@ public class Signer {
                     Path input = artifact.getEffectivePath(context, distribution);
                     Path output = signaturesDirectory.resolve(input.getFileName().toString().concat(extension));
                     FilePair pair = new FilePair(input, output);
-                    pair.setValid(isValid(context, keyring, pair));
+                    pair.setValid(isValid(context, keyring, ledger, pair));
                     files.add(pair);
                 }
             }
@@ -392,7 +431,7 @@ public class Signer {
                 if (Files.exists(checksums)) {
                     Path output = signaturesDirectory.resolve(checksums.getFileName().toString().concat(extension));
                     FilePair pair = new FilePair(checksums, output);
-                    pair.setValid(isValid(context, keyring, pair));
+                    pair.setValid(isValid(context, keyring, ledger, pair));
                     files.add(pair);
                 }
             }
@@ -401,13 +440,13 @@ public class Signer {
         return files;
     }
 
-    private static List<FilePair> collectArtifacts(JReleaserContext context) {
-        return collectArtifacts(context, null);
+    private static List<FilePair> collectArtifacts(JReleaserContext context, SignatureLedger ledger) {
+        return collectArtifacts(context, null, ledger);
     }
 
-    private static boolean isValid(JReleaserContext context, Keyring keyring, FilePair pair) {
+    private static boolean isValid(JReleaserContext context, Keyring keyring, SignatureLedger ledger, FilePair pair) {
         if (null == keyring) {
-            return isValid(context, pair);
+            return isValid(context, ledger, pair);
         }
 
         if (Files.notExists(pair.getSignatureFile())) {
@@ -416,6 +455,10 @@ public class Signer {
             return false;
         }
 
+        if (ledger.isValid(context, pair.inputFile, pair.signatureFile)) {
+            return true;
+        }
+
         if (pair.inputFile.toFile().lastModified() > pair.signatureFile.toFile().lastModified()) {
             context.getLogger().debug(RB.$("signing.file.newer"),
                 context.relativizeToBasedir(pair.inputFile),
@@ -424,19 +467,23 @@ public class Signer {
         }
 
         try {
-            return verify(context, keyring, pair);
+            return record(ledger, pair, verify(context, keyring, pair));
         } catch (SigningException e) {
             return false;
         }
     }
 
-    private static boolean isValid(JReleaserContext context, FilePair pair) {
+    private static boolean isValid(JReleaserContext context, SignatureLedger ledger, FilePair pair) {
         if (Files.notExists(pair.getSignatureFile())) {
             context.getLogger().debug(RB.$("signing.signature.not.exist"),
                 context.relativizeToBasedir(pair.getSignatureFile()));
             return false;
         }
 
+        if (ledger.isValid(context, pair.inputFile, pair.signatureFile)) {
+            return true;
+        }
+
         if (pair.inputFile.toFile().lastModified() > pair.signatureFile.toFile().lastModified()) {
             context.getLogger().debug(RB.$("signing.file.newer"),
                 context.relativizeToBasedir(pair.inputFile),
@@ -445,16 +492,24 @@ public class Signer {
         }
 
         try {
-            return verify(context, pair);
+            return record(ledger, pair, verify(context, pair));
         } catch (SigningException e) {
             return false;
         }
     }
 
+    private static boolean record(SignatureLedger ledger, FilePair pair, boolean valid) {
+        if (valid) {
+            ledger.record(pair.inputFile, pair.signatureFile, pair.inputDigest);
+        }
+        return valid;
+    }
+
     private static class FilePair {
         private final Path inputFile;
         private final Path signatureFile;
         private boolean valid;
+        private String inputDigest;
 
         private FilePair(Path inputFile, Path signatureFile) {
             this.inputFile = inputFile;
@@ -480,5 +535,9 @@ public class Signer {
         public boolean isInvalid() {
             return !valid;
         }
+
+        public void setInputDigest(String inputDigest) {
+            this.inputDigest = inputDigest;
+        }
     }
 }
@@ -1,83 +0,0 @@
-/*
- * SPDX-License-Identifier: Apache-2.0
- *
- * Copyright 2020-2021 The JReleaser authors.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *     https://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.jreleaser.engine.upload;
-
-import org.jreleaser.bundle.RB;
-import org.jreleaser.model.JReleaserContext;
-import org.jreleaser.model.Uploader;
-import org.jreleaser.model.uploader.spi.ArtifactUploader;
-import org.jreleaser.model.uploader.spi.UploadException;
-
-import static java.util.Objects.requireNonNull;
-
-/**
- * @author Andres Almiray
- * @since 0.3.0
- */
-public class ProjectUploader {
-    private final JReleaserContext context;
-    private final Uploader uploader;
-
-    private ProjectUploader(JReleaserContext context,
-                            Uploader uploader) {
-        this.context = context;
-        this.uploader = uploader;
-    }
-
-    public Uploader getUploader() {
-        return uploader;
-    }
-
-    public void upload() throws UploadException {
-        if (!uploader.isEnabled()) {
-            context.getLogger().debug(RB.$("uploaders.skip.upload"), uploader.getName());
-            return;
-        }
-
-        ArtifactUploader artifactUploader = ArtifactUploaders.findUploader(context, uploader);
-
-        context.getLogger().info(RB.$("uploaders.upload.to"), uploader.getName());
-
-        artifactUploader.upload(uploader.getName());
-    }
-
-    public static ProjectUploaderBuilder builder() {
-        return new ProjectUploaderBuilder();
-    }
-
-    public static class ProjectUploaderBuilder {
-        private JReleaserContext context;
-        private Uploader uploader;
-
-        public ProjectUploaderBuilder context(JReleaserContext context) {
-            this.context = requireNonNull(context, "'context' must not be null");
-            return this;
-        }
-
-        public ProjectUploaderBuilder uploader(Uploader uploader) {
-            this.uploader = requireNonNull(uploader, "'uploader' must not be null");
-            return this;
-        }
-
-        public ProjectUploader build() {
-            requireNonNull(context, "'context' must not be null");
-            requireNonNull(uploader, "'uploader' must not be null");
-            return new ProjectUploader(context, uploader);
-        }
-    }
-}
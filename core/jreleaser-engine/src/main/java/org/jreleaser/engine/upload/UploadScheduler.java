@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.upload;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.Artifact;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.Upload;
+import org.jreleaser.model.Uploader;
+import org.jreleaser.model.uploader.spi.ArtifactUploader;
+import org.jreleaser.model.uploader.spi.UploadException;
+import org.jreleaser.util.ConcurrencyUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Uploads artifacts across all selected uploaders using a shared pool of {@code upload.parallelism}
+ * threads. Every uploader contributes at most {@code uploader.parallelism} workers that take artifacts
+ * from its own queue, which keeps per destination limits without blocking threads on each other.
+ *
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+class UploadScheduler {
+    private static final long INITIAL_BACKOFF = TimeUnit.SECONDS.toMillis(1);
+    private static final long MAX_BACKOFF = TimeUnit.SECONDS.toMillis(30);
+
+    private final JReleaserContext context;
+    private final Function<Uploader, ArtifactUploader<?>> uploaderFactory;
+    private final Sleeper sleeper;
+    private final AtomicBoolean failed = new AtomicBoolean();
+
+    UploadScheduler(JReleaserContext context) {
+        this(context, uploader -> ArtifactUploaders.findUploader(context, uploader), Thread::sleep);
+    }
+
+    UploadScheduler(JReleaserContext context, Function<Uploader, ArtifactUploader<?>> uploaderFactory, Sleeper sleeper) {
+        this.context = context;
+        this.uploaderFactory = uploaderFactory;
+        this.sleeper = sleeper;
+    }
+
+    void upload(List<Uploader> uploaders) throws UploadException {
+        Upload upload = context.getModel().getUpload();
+
+        List<List<Callable<Void>>> workersByUploader = new ArrayList<>();
+        int rounds = 0;
+        for (Uploader uploader : uploaders) {
+            if (!uploader.isEnabled()) {
+                context.getLogger().debug(RB.$("uploaders.skip.upload"), uploader.getName());
+                continue;
+            }
+
+            ArtifactUploader<?> artifactUploader = uploaderFactory.apply(uploader);
+            context.getLogger().info(RB.$("uploaders.upload.to"), uploader.getName());
+
+            List<Artifact> artifacts = artifactUploader.collectArtifacts();
+            if (artifacts.isEmpty()) {
+                context.getLogger().info(RB.$("artifacts.no.match"));
+                continue;
+            }
+
+            Queue<Artifact> queue = new ConcurrentLinkedQueue<>(artifacts);
+            List<Callable<Void>> workers = new ArrayList<>();
+            for (int i = 0; i < Math.min(uploader.getParallelism(), artifacts.size()); i++) {
+                workers.add(() -> {
+                    drain(uploader, artifactUploader, queue, upload);
+                    return null;
+                });
+            }
+            workersByUploader.add(workers);
+            rounds = Math.max(rounds, workers.size());
+        }
+
+        // interleave workers so that every uploader gets going right away
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < rounds; i++) {
+            for (List<Callable<Void>> workers : workersByUploader) {
+                if (i < workers.size()) tasks.add(workers.get(i));
+            }
+        }
+
+        try {
+            ConcurrencyUtils.invokeAll("upload", upload.getParallelism(), tasks);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UploadException) {
+                throw (UploadException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void drain(Uploader uploader, ArtifactUploader<?> artifactUploader, Queue<Artifact> queue, Upload upload) throws UploadException {
+        Artifact artifact;
+        while (!failed.get() && null != (artifact = queue.poll())) {
+            context.getLogger().info(" - {} {}", uploader.getName(),
+                artifact.getEffectivePath(context).getFileName());
+
+            try {
+                if (upload.isIncremental() && artifactUploader.isUpToDate(uploader.getName(), artifact)) {
+                    context.getLogger().info(RB.$("uploaders.upload.unchanged"),
+                        artifact.getEffectivePath(context).getFileName(), uploader.getName());
+                    continue;
+                }
+                upload(uploader, artifactUploader, artifact, upload.getMaxRetries());
+            } catch (UploadException | RuntimeException e) {
+                failed.set(true);
+                throw e;
+            }
+        }
+    }
+
+    private void upload(Uploader uploader, ArtifactUploader<?> artifactUploader, Artifact artifact, int maxRetries) throws UploadException {
+        long backoff = INITIAL_BACKOFF;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                artifactUploader.upload(uploader.getName(), artifact);
+                return;
+            } catch (UploadException | RuntimeException e) {
+                if (attempt > maxRetries || failed.get()) throw e;
+
+                context.getLogger().warn(RB.$("uploaders.upload.retry"),
+                    artifact.getEffectivePath(context).getFileName(),
+                    uploader.getName(),
+                    TimeUnit.MILLISECONDS.toSeconds(backoff),
+                    attempt,
+                    maxRetries);
+                context.getLogger().trace(e);
+
+                try {
+                    sleeper.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF);
+            }
+        }
+    }
+
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+}
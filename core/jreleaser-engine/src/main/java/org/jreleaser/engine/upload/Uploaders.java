@@ -24,6 +24,7 @@ import org.jreleaser.model.Upload;
 import org.jreleaser.model.Uploader;
 import org.jreleaser.model.uploader.spi.UploadException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +42,7 @@ public class Uploaders {
             return;
         }
 
+        List<Uploader> selectedUploaders = new ArrayList<>();
         if (!context.getIncludedUploaderTypes().isEmpty()) {
             for (String uploaderType : context.getIncludedUploaderTypes()) {
                 // check if the uploaderType is valid
@@ -53,7 +55,7 @@ public class Uploaders {
 
                 if (uploaders.isEmpty()) {
                     context.getLogger().debug(RB.$("uploaders.no.match"), uploaderType);
-                    return;
+                    break;
                 }
 
                 if (!context.getIncludedUploaderNames().isEmpty()) {
@@ -72,11 +74,11 @@ public class Uploaders {
                         context.getLogger().info(RB.$("uploaders.upload.with"),
                             uploaderType,
                             uploaderName);
-                        upload(context, uploader);
+                        selectedUploaders.add(uploader);
                     }
                 } else {
                     context.getLogger().info(RB.$("uploaders.upload.all.artifacts.with"), uploaderType);
-                    uploaders.values().forEach(uploader -> upload(context, uploader));
+                    selectedUploaders.addAll(uploaders.values());
                 }
             }
         } else if (!context.getIncludedUploaderNames().isEmpty()) {
@@ -87,7 +89,7 @@ public class Uploaders {
 
                 if (!filteredUploaders.isEmpty()) {
                     context.getLogger().info(RB.$("uploaders.upload.all.artifacts.to"), uploaderName);
-                    filteredUploaders.forEach(uploader -> upload(context, uploader));
+                    selectedUploaders.addAll(filteredUploaders);
                 } else {
                     context.getLogger().warn(RB.$("uploaders.uploader.not.configured2"), uploaderName);
                 }
@@ -104,29 +106,22 @@ public class Uploaders {
                     continue;
                 }
 
-                upload(context, uploader);
+                selectedUploaders.add(uploader);
             }
         }
+
+        upload(context, selectedUploaders);
     }
 
-    private static void upload(JReleaserContext context, Uploader uploader) {
+    private static void upload(JReleaserContext context, List<Uploader> uploaders) {
         try {
             context.getLogger().increaseIndent();
-            context.getLogger().setPrefix(uploader.getType());
-            ProjectUploader projectUploader = createProjectUploader(context, uploader);
-            projectUploader.upload();
+            context.getLogger().setPrefix("upload");
+            new UploadScheduler(context).upload(uploaders);
             context.getLogger().restorePrefix();
             context.getLogger().decreaseIndent();
         } catch (UploadException e) {
             throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
         }
     }
-
-    private static ProjectUploader createProjectUploader(JReleaserContext context,
-                                                         Uploader uploader) {
-        return ProjectUploader.builder()
-            .context(context)
-            .uploader(uploader)
-            .build();
-    }
 }
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.checksum;
+
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserModel;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class ChecksumIndexTest {
+    @Test
+    public void savedChecksumIsFoundOnNextRun(@TempDir Path tmp) throws IOException {
+        // given:
+        JReleaserContext context = context(tmp);
+        Path artifact = artifact(tmp, "content");
+        ChecksumIndex index = ChecksumIndex.load(context);
+        index.put(artifact, index.identity(artifact), Algorithm.SHA_256, "cafebabe");
+        index.save(context);
+
+        // when:
+        ChecksumIndex reloaded = ChecksumIndex.load(context);
+
+        // then:
+        assertThat(reloaded.get(artifact, reloaded.identity(artifact), Algorithm.SHA_256), equalTo("cafebabe"));
+        assertThat(reloaded.get(artifact, reloaded.identity(artifact), Algorithm.SHA_512), nullValue());
+    }
+
+    @Test
+    public void changedFileMissesTheIndex(@TempDir Path tmp) throws IOException {
+        // given:
+        JReleaserContext context = context(tmp);
+        Path artifact = artifact(tmp, "content");
+        ChecksumIndex index = ChecksumIndex.load(context);
+        index.put(artifact, index.identity(artifact), Algorithm.SHA_256, "cafebabe");
+        index.save(context);
+
+        // when:
+        Files.write(artifact, "changed content".getBytes());
+        ChecksumIndex reloaded = ChecksumIndex.load(context);
+
+        // then:
+        assertThat(reloaded.get(artifact, reloaded.identity(artifact), Algorithm.SHA_256), nullValue());
+    }
+
+    @Test
+    public void corruptIndexIsIgnored(@TempDir Path tmp) throws IOException {
+        // given:
+        JReleaserContext context = context(tmp);
+        Path artifact = artifact(tmp, "content");
+        ChecksumIndex index = ChecksumIndex.load(context);
+        index.put(artifact, index.identity(artifact), Algorithm.SHA_256, "cafebabe");
+        index.save(context);
+
+        // when:
+        Files.write(context.getChecksumsDirectory().resolve("checksums.index"), "\\uZZZZ".getBytes());
+        ChecksumIndex reloaded = ChecksumIndex.load(context);
+
+        // then:
+        assertThat(reloaded.get(artifact, reloaded.identity(artifact), Algorithm.SHA_256), nullValue());
+    }
+
+    private Path artifact(Path tmp, String content) throws IOException {
+        Path artifact = tmp.resolve("artifact.txt");
+        Files.write(artifact, content.getBytes());
+        return artifact;
+    }
+
+    private JReleaserContext context(Path tmp) {
+        return new JReleaserContext(new SimpleJReleaserLoggerAdapter(),
+            JReleaserContext.Configurer.CLI_YAML,
+            JReleaserContext.Mode.FULL,
+            new JReleaserModel(),
+            tmp,
+            tmp.resolve("out").resolve("jreleaser"),
+            false,
+            false,
+            Collections.emptyList());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.distribution;
+
+import org.jreleaser.model.Distribution;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class DistributionsTest {
+    @Test
+    public void tasksPushingToTheSameRepositoryShareAChain() {
+        // given:
+        Distribution app = distribution("app", "acme");
+        Distribution tool = distribution("tool", "acme");
+        Distribution other = distribution("other", "example");
+        Distributions.ToolTask appBrew = new Distributions.ToolTask(app, "brew");
+        Distributions.ToolTask appSdkman = new Distributions.ToolTask(app, "sdkman");
+        Distributions.ToolTask toolBrew = new Distributions.ToolTask(tool, "brew");
+        Distributions.ToolTask toolSdkman = new Distributions.ToolTask(tool, "sdkman");
+        Distributions.ToolTask otherBrew = new Distributions.ToolTask(other, "brew");
+
+        // when:
+        Map<String, List<Distributions.ToolTask>> chains = Distributions.chain(
+            Arrays.asList(appBrew, appSdkman, toolBrew, toolSdkman, otherBrew));
+
+        // then:
+        assertThat(chains.keySet(), contains("acme/homebrew-tap", "app/sdkman", "tool/sdkman", "example/homebrew-tap"));
+        assertThat(chains.get("acme/homebrew-tap"), contains(appBrew, toolBrew));
+        assertThat(chains.get("app/sdkman"), contains(appSdkman));
+        assertThat(chains.get("tool/sdkman"), contains(toolSdkman));
+        assertThat(chains.get("example/homebrew-tap"), contains(otherBrew));
+    }
+
+    @Test
+    public void tasksOfAChainRunInSubmissionOrder() {
+        // given:
+        Distributions.ToolTask first = new Distributions.ToolTask(distribution("app", "acme"), "brew");
+        Distributions.ToolTask second = new Distributions.ToolTask(distribution("tool", "acme"), "brew");
+        Distributions.ToolTask independent = new Distributions.ToolTask(distribution("app", "acme"), "sdkman");
+        List<Distributions.ToolTask> executed = Collections.synchronizedList(new ArrayList<>());
+
+        // when:
+        Distributions.runChains(4, Distributions.chain(Arrays.asList(first, independent, second)).values(), task -> {
+            if (task == first) sleep(100);
+            executed.add(task);
+        });
+
+        // then:
+        assertThat(executed, containsInAnyOrder(first, second, independent));
+        assertThat(executed.indexOf(first) < executed.indexOf(second), equalTo(true));
+    }
+
+    @Test
+    public void failureStopsRemainingTasks() throws Exception {
+        // given:
+        Distributions.ToolTask failing = new Distributions.ToolTask(distribution("app", "acme"), "brew");
+        Distributions.ToolTask chained = new Distributions.ToolTask(distribution("tool", "acme"), "brew");
+        Distributions.ToolTask running = new Distributions.ToolTask(distribution("app", "acme"), "sdkman");
+        Distributions.ToolTask next = new Distributions.ToolTask(distribution("app", "acme"), "sdkman");
+        List<Distributions.ToolTask> executed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch started = new CountDownLatch(1);
+
+        // when:
+        IllegalStateException e = assertThrows(IllegalStateException.class, () ->
+            Distributions.runChains(2, Distributions.chain(Arrays.asList(failing, chained, running, next)).values(), task -> {
+                executed.add(task);
+                if (task == failing) {
+                    await(started);
+                    throw new IllegalStateException("boom");
+                } else if (task == running) {
+                    started.countDown();
+                    sleep(10_000);
+                }
+            }));
+
+        // then:
+        assertThat(e.getMessage(), equalTo("boom"));
+        assertThat(executed, containsInAnyOrder(failing, running));
+    }
+
+    private static Distribution distribution(String name, String owner) {
+        Distribution distribution = new Distribution();
+        distribution.setName(name);
+        distribution.getBrew().getTap().setOwner(owner);
+        return distribution;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.sign;
+
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserModel;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class SignatureLedgerTest {
+    private static final String FINGERPRINT = "0123456789ABCDEF";
+    private static final String DIGEST = "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73";
+
+    @Test
+    public void recordedSignatureIsValidOnNextRun(@TempDir Path tmp) throws IOException {
+        // given:
+        JReleaserContext context = context(tmp);
+        Path input = write(tmp.resolve("artifact.txt"), "content");
+        Path signature = write(tmp.resolve("artifact.txt.asc"), "signature");
+        SignatureLedger ledger = SignatureLedger.load(context, FINGERPRINT);
+        ledger.record(input, signature, DIGEST);
+        ledger.save(context);
+
+        // when:
+        SignatureLedger reloaded = SignatureLedger.load(context, FINGERPRINT);
+
+        // then:
+        assertThat(reloaded.isValid(context, input, signature), equalTo(true));
+        assertThat(SignatureLedger.load(context, "FEDCBA9876543210").isValid(context, input, signature), equalTo(false));
+    }
+
+    @Test
+    public void touchedInputWithSameContentIsValid(@TempDir Path tmp) throws IOException {
+        // given:
+        JReleaserContext context = context(tmp);
+        Path input = write(tmp.resolve("artifact.txt"), "content");
+        Path signature = write(tmp.resolve("artifact.txt.asc"), "signature");
+        SignatureLedger ledger = SignatureLedger.load(context, FINGERPRINT);
+        ledger.record(input, signature, DIGEST);
+        ledger.save(context);
+
+        // when:
+        Files.setLastModifiedTime(input, FileTime.fromMillis(Files.getLastModifiedTime(input).toMillis() - 60_000L));
+        SignatureLedger reloaded = SignatureLedger.load(context, FINGERPRINT);
+
+        // then:
+        assertThat(reloaded.isValid(context, input, signature), equalTo(true));
+    }
+
+    @Test
+    public void changedInputIsNotValid(@TempDir Path tmp) throws IOException {
+        // given:
+        JReleaserContext context = context(tmp);
+        Path input = write(tmp.resolve("artifact.txt"), "content");
+        Path signature = write(tmp.resolve("artifact.txt.asc"), "signature");
+        SignatureLedger ledger = SignatureLedger.load(context, FINGERPRINT);
+        ledger.record(input, signature, DIGEST);
+        ledger.save(context);
+
+        // when:
+        write(input, "changed content");
+        SignatureLedger reloaded = SignatureLedger.load(context, FINGERPRINT);
+
+        // then:
+        assertThat(reloaded.isValid(context, input, signature), equalTo(false));
+    }
+
+    @Test
+    public void corruptLedgerIsIgnored(@TempDir Path tmp) throws IOException {
+        // given:
+        JReleaserContext context = context(tmp);
+        Path input = write(tmp.resolve("artifact.txt"), "content");
+        Path signature = write(tmp.resolve("artifact.txt.asc"), "signature");
+        SignatureLedger ledger = SignatureLedger.load(context, FINGERPRINT);
+        ledger.record(input, signature, DIGEST);
+        ledger.save(context);
+
+        // when:
+        write(context.getSignaturesDirectory().resolve("signatures.index"), "\\uZZZZ");
+        SignatureLedger reloaded = SignatureLedger.load(context, FINGERPRINT);
+
+        // then:
+        assertThat(reloaded.isValid(context, input, signature), equalTo(false));
+    }
+
+    private Path write(Path path, String content) throws IOException {
+        Files.write(path, content.getBytes());
+        return path;
+    }
+
+    private JReleaserContext context(Path tmp) {
+        return new JReleaserContext(new SimpleJReleaserLoggerAdapter(),
+            JReleaserContext.Configurer.CLI_YAML,
+            JReleaserContext.Mode.FULL,
+            new JReleaserModel(),
+            tmp,
+            tmp.resolve("out").resolve("jreleaser"),
+            false,
+            false,
+            Collections.emptyList());
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.upload;
+
+import org.jreleaser.model.Active;
+import org.jreleaser.model.Artifact;
+import org.jreleaser.model.Http;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserModel;
+import org.jreleaser.model.Project;
+import org.jreleaser.model.Uploader;
+import org.jreleaser.model.uploader.spi.ArtifactUploader;
+import org.jreleaser.model.uploader.spi.UploadException;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class UploadSchedulerTest {
+    private final List<Long> sleeps = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void transientFailuresAreRetried(@TempDir Path tmp) throws UploadException {
+        // given:
+        JReleaserContext context = context(tmp, 2, false);
+        Artifact artifact = artifact(tmp, "app.zip");
+        FakeUploader uploader = new FakeUploader(http("first", 1), artifact);
+        uploader.failures.put(artifact, 1);
+
+        // when:
+        scheduler(context, uploader).upload(Collections.singletonList(uploader.getUploader()));
+
+        // then:
+        assertThat(uploader.attempts(artifact), equalTo(2));
+        assertThat(uploader.uploaded, contains(artifact));
+        assertThat(sleeps, contains(1000L));
+    }
+
+    @Test
+    public void failureIsReportedOnceRetriesAreExhausted(@TempDir Path tmp) {
+        // given:
+        JReleaserContext context = context(tmp, 2, false);
+        Artifact artifact = artifact(tmp, "app.zip");
+        FakeUploader uploader = new FakeUploader(http("first", 1), artifact);
+        uploader.failures.put(artifact, Integer.MAX_VALUE);
+
+        // when:
+        assertThrows(UploadException.class, () ->
+            scheduler(context, uploader).upload(Collections.singletonList(uploader.getUploader())));
+
+        // then:
+        assertThat(uploader.attempts(artifact), equalTo(3));
+        assertThat(uploader.uploaded.isEmpty(), equalTo(true));
+        assertThat(sleeps, contains(1000L, 2000L));
+    }
+
+    @Test
+    public void failureStopsSiblingTasks(@TempDir Path tmp) {
+        // given:
+        JReleaserContext context = context(tmp, 0, false);
+        Artifact broken = artifact(tmp, "broken.zip");
+        Artifact running = artifact(tmp, "running.zip");
+        Artifact queued = artifact(tmp, "queued.zip");
+        FakeUploader first = new FakeUploader(http("first", 1), broken);
+        first.failures.put(broken, Integer.MAX_VALUE);
+        FakeUploader second = new FakeUploader(http("second", 1), running, queued);
+        second.blocking.add(running);
+
+        // when:
+        assertThrows(UploadException.class, () ->
+            scheduler(context, first, second).upload(Arrays.asList(first.getUploader(), second.getUploader())));
+
+        // then:
+        assertThat(first.uploaded.isEmpty(), equalTo(true));
+        assertThat(second.attempts(queued), equalTo(0));
+    }
+
+    @Test
+    public void upToDateArtifactsAreSkipped(@TempDir Path tmp) throws UploadException {
+        // given:
+        JReleaserContext context = context(tmp, 0, true);
+        Artifact unchanged = artifact(tmp, "unchanged.zip");
+        Artifact changed = artifact(tmp, "changed.zip");
+        FakeUploader uploader = new FakeUploader(http("first", 2), unchanged, changed);
+        uploader.upToDate.add(unchanged);
+
+        // when:
+        scheduler(context, uploader).upload(Collections.singletonList(uploader.getUploader()));
+
+        // then:
+        assertThat(uploader.attempts(unchanged), equalTo(0));
+        assertThat(uploader.uploaded, containsInAnyOrder(changed));
+    }
+
+    private UploadScheduler scheduler(JReleaserContext context, FakeUploader... uploaders) {
+        Map<Uploader, ArtifactUploader<?>> byModel = new ConcurrentHashMap<>();
+        for (FakeUploader uploader : uploaders) {
+            byModel.put(uploader.getUploader(), uploader);
+        }
+        return new UploadScheduler(context, byModel::get, sleeps::add);
+    }
+
+    private static JReleaserContext context(Path tmp, int maxRetries, boolean incremental) {
+        JReleaserModel model = new JReleaserModel();
+        model.getUpload().setParallelism(4);
+        model.getUpload().setMaxRetries(maxRetries);
+        model.getUpload().setIncremental(incremental);
+
+        return new JReleaserContext(new SimpleJReleaserLoggerAdapter(),
+            JReleaserContext.Configurer.CLI_YAML,
+            JReleaserContext.Mode.FULL,
+            model,
+            tmp,
+            tmp.resolve("out").resolve("jreleaser"),
+            false,
+            false,
+            Collections.emptyList());
+    }
+
+    private static Http http(String name, int parallelism) {
+        Project project = new Project();
+        project.setVersion("1.0.0");
+
+        Http http = new Http();
+        http.setName(name);
+        http.setParallelism(parallelism);
+        http.setActive(Active.ALWAYS);
+        http.resolveEnabled(project);
+        return http;
+    }
+
+    private static Artifact artifact(Path tmp, String name) {
+        return Artifact.of(tmp.resolve(name));
+    }
+
+    private static class FakeUploader implements ArtifactUploader<Uploader> {
+        private final List<Artifact> artifacts;
+        private final Map<Artifact, Integer> failures = new ConcurrentHashMap<>();
+        private final Map<Artifact, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        private final Set<Artifact> blocking = new HashSet<>();
+        private final Set<Artifact> upToDate = new HashSet<>();
+        private final List<Artifact> uploaded = Collections.synchronizedList(new ArrayList<>());
+        private Uploader uploader;
+
+        private FakeUploader(Uploader uploader, Artifact... artifacts) {
+            this.uploader = uploader;
+            this.artifacts = Arrays.asList(artifacts);
+        }
+
+        private int attempts(Artifact artifact) {
+            AtomicInteger count = attempts.get(artifact);
+            return null != count ? count.get() : 0;
+        }
+
+        @Override
+        public Uploader getUploader() {
+            return uploader;
+        }
+
+        @Override
+        public void setUploader(Uploader uploader) {
+            this.uploader = uploader;
+        }
+
+        @Override
+        public String getType() {
+            return uploader.getType();
+        }
+
+        @Override
+        public List<Artifact> collectArtifacts() {
+            return artifacts;
+        }
+
+        @Override
+        public void upload(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void upload(String name, Artifact artifact) throws UploadException {
+            int attempt = attempts.computeIfAbsent(artifact, k -> new AtomicInteger()).incrementAndGet();
+            if (attempt <= failures.getOrDefault(artifact, 0)) {
+                throw new UploadException("failed " + artifact.getPath());
+            }
+
+            if (blocking.contains(artifact)) {
+                // runs until a failing sibling stops the scheduler
+                try {
+                    Thread.sleep(10_000L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            uploaded.add(artifact);
+        }
+
+        @Override
+        public boolean isUpToDate(String name, Artifact artifact) {
+            return upToDate.contains(artifact);
+        }
+    }
+}
@@ -46,6 +46,7 @@ abstract class AbstractUploader implements Uploader {
     protected Active active;
     private int connectTimeout;
     private int readTimeout;
+    private int parallelism;
     private Boolean artifacts;
     private Boolean files;
     private Boolean signatures;
@@ -60,6 +61,7 @@ abstract class AbstractUploader implements Uploader {
         this.name = uploader.name;
         this.connectTimeout = uploader.connectTimeout;
         this.readTimeout = uploader.readTimeout;
+        this.parallelism = uploader.parallelism;
         this.artifacts = uploader.artifacts;
         this.files = uploader.files;
         this.signatures = uploader.signatures;
@@ -152,6 +154,16 @@ abstract class AbstractUploader implements Uploader {
         this.readTimeout = readTimeout;
     }
 
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public Map<String, Object> getExtraProperties() {
         return extraProperties;
@@ -222,6 +234,7 @@ abstract class AbstractUploader implements Uploader {
         props.put("active", active);
         props.put("connectTimeout", connectTimeout);
         props.put("readTimeout", readTimeout);
+        props.put("parallelism", parallelism);
         props.put("artifacts", isArtifacts());
         props.put("files", isFiles());
         props.put("signatures", isSignatures());
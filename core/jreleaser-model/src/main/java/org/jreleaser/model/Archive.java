@@ -37,6 +37,7 @@ public class Archive extends AbstractAssembler {
 
     private String archiveName;
     private Boolean attachPlatform;
+    private int compressionThreads;
     private Distribution.DistributionType distributionType;
 
     public Archive() {
@@ -61,6 +62,7 @@ public class Archive extends AbstractAssembler {
         this.archiveName = archive.archiveName;
         this.distributionType = archive.distributionType;
         this.attachPlatform = archive.attachPlatform;
+        this.compressionThreads = archive.compressionThreads;
         setFormats(archive.formats);
     }
 
@@ -94,6 +96,14 @@ public class Archive extends AbstractAssembler {
         this.attachPlatform = attachPlatform;
     }
 
+    public int getCompressionThreads() {
+        return compressionThreads;
+    }
+
+    public void setCompressionThreads(int compressionThreads) {
+        this.compressionThreads = compressionThreads;
+    }
+
     public Set<Format> getFormats() {
         return formats;
     }
@@ -117,6 +127,7 @@ public class Archive extends AbstractAssembler {
         props.put("distributionType", distributionType);
         props.put("attachPlatform", isAttachPlatform());
         props.put("formats", formats);
+        props.put("compressionThreads", compressionThreads);
     }
 
     public enum Format {
@@ -87,6 +87,7 @@ public abstract class GitService implements Releaser, CommitAuthorAware, OwnerAw
     private String apiEndpoint;
     private int connectTimeout;
     private int readTimeout;
+    private int uploadParallelism;
     private Boolean artifacts;
     private Boolean files;
     private Boolean checksums;
@@ -137,6 +138,7 @@ public abstract class GitService implements Releaser, CommitAuthorAware, OwnerAw
         this.apiEndpoint = service.apiEndpoint;
         this.connectTimeout = service.connectTimeout;
         this.readTimeout = service.readTimeout;
+        this.uploadParallelism = service.uploadParallelism;
         this.artifacts = service.artifacts;
         this.files = service.files;
         this.checksums = service.checksums;
@@ -627,6 +629,14 @@ public abstract class GitService implements Releaser, CommitAuthorAware, OwnerAw
         this.readTimeout = readTimeout;
     }
 
+    public int getUploadParallelism() {
+        return uploadParallelism;
+    }
+
+    public void setUploadParallelism(int uploadParallelism) {
+        this.uploadParallelism = uploadParallelism;
+    }
+
     public boolean isArtifactsSet() {
         return artifacts != null;
     }
@@ -714,6 +724,7 @@ public abstract class GitService implements Releaser, CommitAuthorAware, OwnerAw
             props.put("apiEndpoint", apiEndpoint);
             props.put("connectTimeout", connectTimeout);
             props.put("readTimeout", readTimeout);
+            props.put("uploadParallelism", uploadParallelism);
         }
         props.put("changelog", changelog.asMap(full));
         if (releaseSupported) {
@@ -19,6 +19,7 @@ package org.jreleaser.model;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.util.Artifacts;
+import org.jreleaser.model.util.GlobIndex;
 
 import java.io.File;
 import java.io.IOException;
@@ -55,6 +56,7 @@ public class Glob implements Domain, ExtraProperties {
     private String pattern;
     private String platform;
     private Set<Artifact> artifacts;
+    private Path resolvedDirectory;
 
     private String directory;
     private String include;
@@ -89,14 +91,24 @@ public class Glob implements Domain, ExtraProperties {
     }
 
     public Set<Artifact> getResolvedArtifacts(JReleaserContext context) {
-        return isNotBlank(pattern) ? getResolvedArtifactsPattern(context) : getResolvedArtifactsLegacy(context);
+        return getResolvedArtifacts(context, null);
+    }
+
+    /**
+     * Resolves this glob together with the other globs of {@code index}, if given.
+     */
+    public Set<Artifact> getResolvedArtifacts(JReleaserContext context, GlobIndex index) {
+        return isNotBlank(pattern) ? getResolvedArtifactsPattern(context, index) : getResolvedArtifactsLegacy(context);
     }
 
     public Set<Artifact> getResolvedArtifactsPattern(JReleaserContext context) {
+        return getResolvedArtifactsPattern(context, null);
+    }
+
+    public Set<Artifact> getResolvedArtifactsPattern(JReleaserContext context, GlobIndex index) {
         if (null == artifacts) {
-            setPattern(Artifacts.resolveForGlob(getPattern(), context, this));
-            normalizePattern();
-            artifacts = Artifacts.resolveFiles(context, resolveDirectory(context), Collections.singletonList(pattern));
+            if (null == index) index = new GlobIndex(context, Collections.singletonList(this));
+            artifacts = index.resolve(resolvePattern(context), pattern);
             artifacts.forEach(artifact -> {
                 artifact.setPlatform(platform);
                 if (context.isPlatformSelected(artifact)) artifact.activate();
@@ -107,6 +119,20 @@ public class Glob implements Domain, ExtraProperties {
         return artifacts;
     }
 
+    /**
+     * Resolves templates in both pattern and directory, returns the directory to match in.
+     */
+    public Path resolvePattern(JReleaserContext context) {
+        if (null == resolvedDirectory) {
+            Path path = resolveDirectory(context);
+            setPattern(Artifacts.resolveForGlob(getPattern(), context, this));
+            normalizePattern();
+            resolvedDirectory = path;
+        }
+
+        return resolvedDirectory;
+    }
+
     private Path resolveDirectory(JReleaserContext context) {
         // resolve directory
         Path path = context.getBasedir();
@@ -24,6 +24,7 @@ import org.jreleaser.util.Constants;
 import org.jreleaser.util.Errors;
 import org.jreleaser.util.JReleaserLogger;
 import org.jreleaser.util.PlatformUtils;
+import org.jreleaser.util.PropertyScope;
 import org.jreleaser.util.Version;
 import org.jreleaser.util.signing.FilesKeyring;
 import org.jreleaser.util.signing.InMemoryKeyring;
@@ -44,6 +45,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.jreleaser.util.CollectionUtils.safePut;
@@ -89,6 +91,7 @@ public class JReleaserContext {
     private final Mode mode;
     private final Configurer configurer;
     private final Errors errors = new Errors();
+    private final Map<String, Map<String, Object>> resolvedToolProps = new ConcurrentHashMap<>();
     private final List<String> selectedPlatforms = new ArrayList<>();
     private final List<String> includedAnnouncers = new ArrayList<>();
     private final List<String> includedAssemblers = new ArrayList<>();
@@ -106,6 +109,8 @@ public class JReleaserContext {
     private String changelog;
     private Releaser releaser;
     private JReleaserCommand command;
+    private volatile boolean validated;
+    private volatile Map<String, Object> baseProps;
 
     public JReleaserContext(JReleaserLogger logger,
                             Configurer configurer,
@@ -167,9 +172,24 @@ public class JReleaserContext {
         return relativize(basedir, other);
     }
 
+    /**
+     * Properties resolved for a tool of a distribution by the first lifecycle phase of this session,
+     * {@code null} if none were resolved yet.
+     */
+    public Map<String, Object> getResolvedToolProps(String distributionName, String toolName) {
+        return resolvedToolProps.get(distributionName + "/" + toolName);
+    }
+
+    public void setResolvedToolProps(String distributionName, String toolName, Map<String, Object> props) {
+        resolvedToolProps.put(distributionName + "/" + toolName, Collections.unmodifiableMap(props));
+    }
+
     public Errors validateModel() {
         if (errors.hasErrors()) return errors;
 
+        validated = false;
+        baseProps = null;
+
         this.model.getEnvironment().initProps(this);
 
         logger.info(RB.$("context.configuration.validation"));
@@ -194,6 +214,9 @@ public class JReleaserContext {
             errors.logErrors(logger);
         }
 
+        // the model is not supposed to change from here on
+        validated = !errors.hasErrors();
+
         return errors;
     }
 
@@ -455,7 +478,21 @@ public class JReleaserContext {
         this.command = command;
     }
 
+    /**
+     * Returns a fresh scope of properties. Once the model has been validated, model and context
+     * properties are resolved once and shared by all scopes.
+     */
     public Map<String, Object> props() {
+        Map<String, Object> props = baseProps;
+        if (null == props) {
+            if (!validated) return resolveProps();
+            props = PropertyScope.freeze(resolveProps());
+            baseProps = props;
+        }
+        return PropertyScope.of(props);
+    }
+
+    private Map<String, Object> resolveProps() {
         Map<String, Object> props = new LinkedHashMap<>(model.props());
         props.put(Constants.KEY_BASE_OUTPUT_DIRECTORY, getOutputDirectory().getParent());
         props.put(Constants.KEY_OUTPUT_DIRECTORY, getOutputDirectory());
@@ -49,6 +49,8 @@ public class Jlink extends AbstractJavaAssembler {
     private String imageNameTransform;
     private String moduleName;
     private Boolean copyJars;
+    private int parallelism;
+    private int compressionThreads;
 
     public Jlink() {
         super(TYPE);
@@ -65,6 +67,8 @@ public class Jlink extends AbstractJavaAssembler {
         this.imageNameTransform = jlink.imageNameTransform;
         this.moduleName = jlink.moduleName;
         this.copyJars = jlink.copyJars;
+        this.parallelism = jlink.parallelism;
+        this.compressionThreads = jlink.compressionThreads;
         setJdeps(jlink.jdeps);
         setJdk(jlink.jdk);
         setMainJar(jlink.mainJar);
@@ -281,6 +285,22 @@ public class Jlink extends AbstractJavaAssembler {
         return copyJars != null;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getCompressionThreads() {
+        return compressionThreads;
+    }
+
+    public void setCompressionThreads(int compressionThreads) {
+        this.compressionThreads = compressionThreads;
+    }
+
     @Override
     protected void asMap(boolean full, Map<String, Object> props) {
         super.asMap(full, props);
@@ -303,6 +323,8 @@ public class Jlink extends AbstractJavaAssembler {
             mappedJars.put("glob " + i, jars.get(i).asMap(full));
         }
         props.put("copyJars", isCopyJars());
+        props.put("parallelism", parallelism);
+        props.put("compressionThreads", compressionThreads);
         props.put("mainJar", mainJar.asMap(full));
         props.put("jars", mappedJars);
         Map<String, Map<String, Object>> mappedFiles = new LinkedHashMap<>();
@@ -34,6 +34,7 @@ public class Packagers implements Domain {
     private final Sdkman sdkman = new Sdkman();
     private final Snap snap = new Snap();
     private final Spec spec = new Spec();
+    private int parallelism;
 
     public boolean hasEnabledPackagers() {
         return brew.isEnabled() ||
@@ -48,6 +49,7 @@ public class Packagers implements Domain {
     }
 
     void setAll(Packagers packagers) {
+        this.parallelism = packagers.parallelism;
         setBrew(packagers.brew);
         setChocolatey(packagers.chocolatey);
         setDocker(packagers.docker);
@@ -59,6 +61,14 @@ public class Packagers implements Domain {
         setSpec(packagers.spec);
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public Brew getBrew() {
         return brew;
     }
@@ -134,6 +144,7 @@ public class Packagers implements Domain {
     @Override
     public Map<String, Object> asMap(boolean full) {
         Map<String, Object> map = new LinkedHashMap<>();
+        if (full || parallelism > 1) map.put("parallelism", parallelism);
         map.putAll(brew.asMap(full));
         map.putAll(chocolatey.asMap(full));
         map.putAll(docker.asMap(full));
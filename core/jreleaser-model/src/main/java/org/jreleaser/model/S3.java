@@ -44,6 +44,8 @@ public class S3 extends AbstractUploader {
     private String accessKeyId;
     private String secretKey;
     private String sessionToken;
+    private int partSize;
+    private int partThreads;
 
     public S3() {
         super(TYPE);
@@ -59,6 +61,8 @@ public class S3 extends AbstractUploader {
         this.accessKeyId = s3.accessKeyId;
         this.secretKey = s3.secretKey;
         this.sessionToken = s3.sessionToken;
+        this.partSize = s3.partSize;
+        this.partThreads = s3.partThreads;
         setHeaders(s3.headers);
     }
 
@@ -187,6 +191,22 @@ public class S3 extends AbstractUploader {
         this.endpoint = endpoint;
     }
 
+    public int getPartSize() {
+        return partSize;
+    }
+
+    public void setPartSize(int partSize) {
+        this.partSize = partSize;
+    }
+
+    public int getPartThreads() {
+        return partThreads;
+    }
+
+    public void setPartThreads(int partThreads) {
+        this.partThreads = partThreads;
+    }
+
     public Map<String, String> getHeaders() {
         return headers;
     }
@@ -209,6 +229,8 @@ public class S3 extends AbstractUploader {
         props.put("path", getResolvedPath());
         props.put("downloadUrl", getResolvedDownloadUrl());
         props.put("endpoint", getResolvedEndpoint());
+        props.put("partSize", partSize);
+        props.put("partThreads", partThreads);
         props.put("headers", headers);
     }
 }
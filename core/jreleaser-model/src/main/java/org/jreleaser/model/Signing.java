@@ -61,6 +61,7 @@ public class Signing implements Domain, Activatable {
     private String homeDir;
     private String publicKeyring;
     private Boolean defaultKeyring;
+    private int parallelism;
 
     void setAll(Signing signing) {
         this.active = signing.active;
@@ -78,6 +79,7 @@ public class Signing implements Domain, Activatable {
         this.homeDir = signing.homeDir;
         this.publicKeyring = signing.publicKeyring;
         this.defaultKeyring = signing.defaultKeyring;
+        this.parallelism = signing.parallelism;
         setArgs(signing.args);
     }
 
@@ -266,6 +268,14 @@ public class Signing implements Domain, Activatable {
         this.defaultKeyring = defaultKeyring;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public List<String> getArgs() {
         return args;
     }
@@ -303,6 +313,7 @@ public class Signing implements Domain, Activatable {
         props.put("artifacts", isArtifacts());
         props.put("files", isFiles());
         props.put("checksums", isChecksums());
+        props.put("parallelism", parallelism);
         props.put("passphrase", isNotBlank(passphrase) ? HIDE : UNSET);
         if (mode != Mode.COMMAND) {
             props.put("publicKey", isNotBlank(publicKey) ? HIDE : UNSET);
@@ -38,9 +38,15 @@ public class Upload implements Domain, EnabledAware {
     private final Map<String, Http> http = new LinkedHashMap<>();
     private final Map<String, S3> s3 = new LinkedHashMap<>();
     private Boolean enabled;
+    private int parallelism;
+    private int maxRetries;
+    private boolean incremental;
 
     void setAll(Upload assemble) {
         this.enabled = assemble.enabled;
+        this.parallelism = assemble.parallelism;
+        this.maxRetries = assemble.maxRetries;
+        this.incremental = assemble.incremental;
         setArtifactory(assemble.artifactory);
         setHttp(assemble.http);
         setS3(assemble.s3);
@@ -61,6 +67,30 @@ public class Upload implements Domain, EnabledAware {
         return enabled != null;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
     public List<Artifactory> getActiveArtifactories() {
         return artifactory.values().stream()
             .filter(Artifactory::isEnabled)
@@ -122,6 +152,9 @@ public class Upload implements Domain, EnabledAware {
     public Map<String, Object> asMap(boolean full) {
         Map<String, Object> map = new LinkedHashMap<>();
         map.put("enabled", isEnabled());
+        map.put("parallelism", parallelism);
+        map.put("maxRetries", maxRetries);
+        map.put("incremental", incremental);
 
         List<Map<String, Object>> artifactory = this.artifactory.values()
             .stream()
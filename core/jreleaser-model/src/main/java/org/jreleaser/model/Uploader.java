@@ -51,6 +51,10 @@ public interface Uploader extends Domain, Activatable, TimeoutAware, ExtraProper
 
     boolean isSignaturesSet();
 
+    int getParallelism();
+
+    void setParallelism(int parallelism);
+
     List<String> resolveSkipKeys();
 
     Map<String, Object> artifactProps(JReleaserContext context, Artifact artifact);
@@ -17,8 +17,11 @@
  */
 package org.jreleaser.model.uploader.spi;
 
+import org.jreleaser.model.Artifact;
 import org.jreleaser.model.Uploader;
 
+import java.util.List;
+
 /**
  * @author Andres Almiray
  * @since 0.3.0
@@ -30,5 +33,14 @@ public interface ArtifactUploader<U extends Uploader> {
 
     String getType();
 
+    List<Artifact> collectArtifacts();
+
     void upload(String name) throws UploadException;
+
+    void upload(String name, Artifact artifact) throws UploadException;
+
+    /**
+     * Whether the remote copy of the given artifact already matches its local digests.
+     */
+    boolean isUpToDate(String name, Artifact artifact) throws UploadException;
 }
@@ -39,12 +39,14 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
 import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.jreleaser.model.util.Templates.resolve;
@@ -55,6 +57,8 @@ import static org.jreleaser.util.MustacheUtils.applyTemplate;
  * @since 0.1.0
  */
 public class Artifacts {
+    private static final String GLOB_PREFIX = "glob:";
+
     public static String resolveForArtifact(String input, JReleaserContext context) {
         return resolve(input, context.props());
     }
@@ -151,8 +155,9 @@ public class Artifacts {
         }
 
         // resolve globs
+        GlobIndex index = new GlobIndex(context, files.getGlobs());
         for (Glob glob : files.getGlobs()) {
-            for (Artifact artifact : glob.getResolvedArtifacts(context)) {
+            for (Artifact artifact : glob.getResolvedArtifacts(context, index)) {
                 if (!artifact.isActive()) continue;
                 paths.add(artifact);
             }
@@ -168,23 +173,7 @@ public class Artifacts {
             return Collections.emptySet();
         }
 
-        FileSystem fileSystem = FileSystems.getDefault();
-        List<PathMatcher> matchers = new ArrayList<>();
-        for (String glob : globs) {
-            matchers.add(fileSystem.getPathMatcher(glob));
-        }
-
-        GlobResolver resolver = new GlobResolver(logger, basedir, matchers);
-        try {
-            java.nio.file.Files.walkFileTree(basedir, resolver);
-            if (resolver.failed) {
-                throw new JReleaserException(RB.$("ERROR_artifacts_glob_resolution"));
-            }
-
-            return Artifact.sortArtifacts(resolver.artifacts);
-        } catch (IOException e) {
-            throw new JReleaserException(RB.$("ERROR_artifacts_unexpected_error_globs"), e);
-        }
+        return toArtifacts(matchFiles(logger, basedir, globs));
     }
 
     public static Set<Artifact> resolveFiles(JReleaserLogger logger,
@@ -195,25 +184,38 @@ public class Artifacts {
             return Collections.emptySet();
         }
 
-        FileSystem fileSystem = FileSystems.getDefault();
-        List<PathMatcher> matchers = new ArrayList<>();
+        List<String> patterns = new ArrayList<>();
         for (String glob : globs) {
-            matchers.add(fileSystem.getPathMatcher(applyTemplate(glob, props)));
+            patterns.add(applyTemplate(glob, props));
         }
 
-        GlobResolver resolver = new GlobResolver(logger, basedir, matchers);
+        return toArtifacts(matchFiles(logger, basedir, patterns));
+    }
+
+    /**
+     * Walks {@code basedir} once and matches every file against all given patterns.
+     * Returns the matching files per pattern.
+     */
+    public static Map<String, Set<Path>> matchFiles(JReleaserLogger logger, Path basedir, Collection<String> patterns) throws JReleaserException {
+        GlobResolver resolver = new GlobResolver(logger, basedir, patterns);
         try {
             java.nio.file.Files.walkFileTree(basedir, resolver);
             if (resolver.failed) {
                 throw new JReleaserException(RB.$("ERROR_artifacts_glob_resolution"));
             }
 
-            return Artifact.sortArtifacts(resolver.artifacts);
+            return resolver.matches;
         } catch (IOException e) {
             throw new JReleaserException(RB.$("ERROR_artifacts_unexpected_error_globs"), e);
         }
     }
 
+    private static Set<Artifact> toArtifacts(Map<String, Set<Path>> matches) {
+        Set<Artifact> artifacts = new LinkedHashSet<>();
+        matches.values().forEach(paths -> paths.forEach(path -> artifacts.add(Artifact.of(path))));
+        return Artifact.sortArtifacts(artifacts);
+    }
+
     public static Set<Artifact> resolveFiles(JReleaserContext context, Collection<String> globs) throws JReleaserException {
         return resolveFiles(context, context.getBasedir(), globs);
     }
@@ -222,29 +224,55 @@ public class Artifacts {
         return resolveFiles(context.getLogger(), context.props(), directory, globs);
     }
 
-    private static class GlobResolver extends SimpleFileVisitor<Path> {
+    static class GlobResolver extends SimpleFileVisitor<Path> {
         private final JReleaserLogger logger;
-        private final List<PathMatcher> matchers;
+        private final Map<String, PathMatcher> matchers = new LinkedHashMap<>();
+        private final Map<String, Set<Path>> matches = new LinkedHashMap<>();
+        private final List<Path> prefixes = new ArrayList<>();
         private final Path basedir;
-        private final Set<Artifact> artifacts = new LinkedHashSet<>();
         private boolean failed;
 
-        private GlobResolver(JReleaserLogger logger, Path basedir, List<PathMatcher> matchers) {
+        GlobResolver(JReleaserLogger logger, Path basedir, Collection<String> patterns) {
             this.logger = logger;
-            this.matchers = matchers;
             this.basedir = basedir;
+
+            FileSystem fileSystem = FileSystems.getDefault();
+            boolean prunable = true;
+            for (String pattern : patterns) {
+                matchers.put(pattern, fileSystem.getPathMatcher(pattern));
+                matches.put(pattern, new LinkedHashSet<>());
+
+                Path prefix = literalPrefix(fileSystem, pattern);
+                if (null == prefix) {
+                    prunable = false;
+                } else {
+                    prefixes.add(prefix);
+                }
+            }
+            // a single pattern without a literal prefix may match anywhere
+            if (!prunable) prefixes.clear();
         }
 
-        private void match(Path path) {
-            if (matchers.stream()
-                .anyMatch(matcher -> matcher.matches(path))) {
-                artifacts.add(Artifact.of(path));
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+            if (prefixes.isEmpty()) return CONTINUE;
+
+            Path path = dir.toAbsolutePath();
+            for (Path prefix : prefixes) {
+                if (path.startsWith(prefix) || prefix.startsWith(path)) {
+                    return CONTINUE;
+                }
             }
+            return SKIP_SUBTREE;
         }
 
         @Override
         public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-            match(file);
+            for (Map.Entry<String, PathMatcher> e : matchers.entrySet()) {
+                if (e.getValue().matches(file)) {
+                    matches.get(e.getKey()).add(file);
+                }
+            }
             return CONTINUE;
         }
 
@@ -255,5 +283,26 @@ public class Artifacts {
                 basedir.toAbsolutePath().relativize(file.toAbsolutePath()), e);
             return CONTINUE;
         }
+
+        /**
+         * Absolute directory a glob pattern is anchored to, if any. Patterns that start with a
+         * wildcard, such as the {@code **} added to relative patterns, can match anywhere.
+         */
+        static Path literalPrefix(FileSystem fileSystem, String pattern) {
+            // '\\' is both the separator and the escape character on Windows
+            if (!pattern.startsWith(GLOB_PREFIX) || fileSystem.getSeparator().equals("\\")) return null;
+
+            String glob = pattern.substring(GLOB_PREFIX.length());
+            int end = -1;
+            for (int i = 0; i < glob.length(); i++) {
+                char c = glob.charAt(i);
+                if ("*?[{\\".indexOf(c) != -1) break;
+                if (c == '/') end = i;
+            }
+            if (end <= 0) return null;
+
+            Path prefix = fileSystem.getPath(glob.substring(0, end));
+            return prefix.isAbsolute() ? prefix : null;
+        }
     }
 }
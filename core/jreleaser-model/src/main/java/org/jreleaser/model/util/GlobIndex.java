@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.util;
+
+import org.jreleaser.model.Artifact;
+import org.jreleaser.model.Glob;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserException;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Resolves the globs of a single step with as few directory walks as possible. All globs of the
+ * index are matched together the first time any pattern of the same directory is resolved, which
+ * takes a single walk per directory. Matches reflect the tree at that point, so an index should
+ * not outlive the step that created it.
+ *
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class GlobIndex {
+    private final JReleaserContext context;
+    private final Set<Glob> pending = new LinkedHashSet<>();
+    private final Map<Path, Map<String, Set<Path>>> matches = new LinkedHashMap<>();
+
+    public GlobIndex(JReleaserContext context, Collection<Glob> globs) {
+        this.context = context;
+        for (Glob glob : globs) {
+            if (isNotBlank(glob.getPattern())) pending.add(glob);
+        }
+    }
+
+    public synchronized Set<Artifact> resolve(Path directory, String pattern) throws JReleaserException {
+        Map<String, Set<Path>> matchesByPattern = matches.computeIfAbsent(directory, k -> new LinkedHashMap<>());
+
+        if (!matchesByPattern.containsKey(pattern)) {
+            Set<String> patterns = new LinkedHashSet<>();
+            patterns.add(pattern);
+            collectPending(directory, patterns, matchesByPattern);
+            matchesByPattern.putAll(Artifacts.matchFiles(context.getLogger(), directory, patterns));
+        }
+
+        // fresh instances, callers customize them
+        Set<Artifact> artifacts = new LinkedHashSet<>();
+        for (Path path : matchesByPattern.get(pattern)) {
+            artifacts.add(Artifact.of(path));
+        }
+        return Artifact.sortArtifacts(artifacts);
+    }
+
+    private void collectPending(Path directory, Set<String> patterns, Map<String, Set<Path>> resolved) {
+        for (Iterator<Glob> it = pending.iterator(); it.hasNext(); ) {
+            Glob glob = it.next();
+            try {
+                if (!directory.equals(glob.resolvePattern(context))) continue;
+                if (!resolved.containsKey(glob.getPattern())) patterns.add(glob.getPattern());
+            } catch (JReleaserException e) {
+                // reported when the glob itself is resolved
+                context.getLogger().trace(e);
+            }
+            it.remove();
+        }
+    }
+}
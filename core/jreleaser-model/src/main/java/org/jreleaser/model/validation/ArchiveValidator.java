@@ -73,6 +73,10 @@ public abstract class ArchiveValidator extends Validator {
             archive.addFormat(Archive.Format.ZIP);
         }
 
+        if (archive.getCompressionThreads() <= 0) {
+            archive.setCompressionThreads(1);
+        }
+
         if (archive.getFileSets().isEmpty()) {
             errors.configuration(RB.$("validation_archive_empty_fileset", archive.getName()));
         } else {
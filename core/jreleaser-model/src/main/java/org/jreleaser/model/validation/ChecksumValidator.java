@@ -42,5 +42,9 @@ public abstract class ChecksumValidator extends Validator {
         }
 
         checksum.getAlgorithms().add(Algorithm.SHA_256);
+
+        if (checksum.getParallelism() <= 0) {
+            checksum.setParallelism(1);
+        }
     }
 }
@@ -176,6 +176,10 @@ public abstract class GitServiceValidator extends Validator {
 
         validateTimeout(service);
 
+        if (service.getUploadParallelism() <= 0) {
+            service.setUploadParallelism(1);
+        }
+
         if (service.isReleaseSupported()) {
             // milestone
             service.getMilestone().setName(
@@ -130,6 +130,14 @@ public abstract class JlinkValidator extends Validator {
             jlink.getArgs().add("--strip-debug");
         }
 
+        if (jlink.getParallelism() <= 0) {
+            jlink.setParallelism(1);
+        }
+
+        if (jlink.getCompressionThreads() <= 0) {
+            jlink.setCompressionThreads(1);
+        }
+
         if (null == jlink.getMainJar()) {
             errors.configuration(RB.$("validation_is_null", "jlink." + jlink.getName() + ".mainJar"));
             return;
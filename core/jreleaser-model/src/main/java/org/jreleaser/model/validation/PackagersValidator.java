@@ -37,6 +37,10 @@ import static org.jreleaser.util.StringUtils.isBlank;
  */
 public abstract class PackagersValidator extends Validator {
     public static void validatePackagers(JReleaserContext context, JReleaserContext.Mode mode, Errors errors) {
+        if (context.getModel().getPackagers().getParallelism() <= 0) {
+            context.getModel().getPackagers().setParallelism(1);
+        }
+
         if (mode != JReleaserContext.Mode.FULL) {
             return;
         }
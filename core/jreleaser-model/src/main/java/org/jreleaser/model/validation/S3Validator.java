@@ -17,6 +17,7 @@
  */
 package org.jreleaser.model.validation;
 
+import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Active;
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.S3;
@@ -111,6 +112,16 @@ public abstract class S3Validator extends Validator {
                 s3.getEndpoint(),
                 ""));
 
+        if (s3.getPartSize() <= 0) {
+            s3.setPartSize(8);
+        } else if (s3.getPartSize() < 5) {
+            // S3 rejects parts smaller than 5 MiB, except for the last one
+            errors.configuration(RB.$("validation_s3_part_size", s3.getName()));
+        }
+        if (s3.getPartThreads() <= 0) {
+            s3.setPartThreads(1);
+        }
+
         validateTimeout(s3);
     }
 }
@@ -52,6 +52,10 @@ public abstract class SigningValidator extends Validator {
             signing.setArmored(true);
         }
 
+        if (signing.getParallelism() <= 0) {
+            signing.setParallelism(1);
+        }
+
         signing.setPassphrase(
             checkProperty(context,
                 GPG_PASSPHRASE,
@@ -19,6 +19,7 @@ package org.jreleaser.model.validation;
 
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.Upload;
+import org.jreleaser.model.Uploader;
 import org.jreleaser.util.Errors;
 
 import static org.jreleaser.model.validation.ArtifactoryValidator.validateArtifactory;
@@ -38,6 +39,18 @@ public abstract class UploadersValidator extends Validator {
         validateHttp(context, mode, errors);
         validateS3(context, mode, errors);
 
+        if (upload.getParallelism() <= 0) {
+            upload.setParallelism(1);
+        }
+        if (upload.getMaxRetries() < 0) {
+            upload.setMaxRetries(0);
+        }
+        for (Uploader uploader : upload.findAllActiveUploaders()) {
+            if (uploader.getParallelism() <= 0) {
+                uploader.setParallelism(upload.getParallelism());
+            }
+        }
+
         if (!upload.isEnabledSet()) {
             upload.setEnabled(!upload.getActiveArtifactories().isEmpty() ||
                 !upload.getActiveHttps().isEmpty() ||
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class ArtifactsTest {
+    @Test
+    public void matchesEveryPatternInASingleWalk(@TempDir Path tmp) throws IOException {
+        // given:
+        Path zip = touch(tmp.resolve("build/app.zip"));
+        Path tgz = touch(tmp.resolve("build/app.tgz"));
+        Path jar = touch(tmp.resolve("libs/app.jar"));
+        String zips = "glob:**/*.zip";
+        String archives = "glob:**/app.{zip,tgz}";
+        String jars = "glob:**/*.jar";
+
+        // when:
+        Map<String, Set<Path>> matches = Artifacts.matchFiles(null, tmp, Arrays.asList(zips, archives, jars));
+
+        // then:
+        assertThat(matches.get(zips), containsInAnyOrder(zip));
+        assertThat(matches.get(archives), containsInAnyOrder(zip, tgz));
+        assertThat(matches.get(jars), containsInAnyOrder(jar));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void literalPrefixIsTheAnchoredDirectory() {
+        // given:
+        FileSystem fileSystem = FileSystems.getDefault();
+
+        // expect:
+        assertThat(Artifacts.GlobResolver.literalPrefix(fileSystem, "glob:/tmp/build/*.zip"),
+            equalTo(fileSystem.getPath("/tmp/build")));
+        assertThat(Artifacts.GlobResolver.literalPrefix(fileSystem, "glob:/tmp/b*/app.zip"),
+            equalTo(fileSystem.getPath("/tmp")));
+        assertThat(Artifacts.GlobResolver.literalPrefix(fileSystem, "glob:**/*.zip"), nullValue());
+        assertThat(Artifacts.GlobResolver.literalPrefix(fileSystem, "glob:/*.zip"), nullValue());
+        assertThat(Artifacts.GlobResolver.literalPrefix(fileSystem, "regex:/tmp/build/.*"), nullValue());
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void prunesDirectoriesOutsideOfLiteralPrefixes(@TempDir Path tmp) throws IOException {
+        // given:
+        Path build = Files.createDirectories(tmp.resolve("build/distributions"));
+        Path other = Files.createDirectories(tmp.resolve("other"));
+        Path zip = touch(build.resolve("app.zip"));
+        touch(other.resolve("app.zip"));
+        String pattern = "glob:" + build.toAbsolutePath() + "/*.zip";
+
+        // when:
+        Artifacts.GlobResolver resolver = new Artifacts.GlobResolver(null, tmp, Arrays.asList(pattern));
+
+        // then:
+        assertThat(resolver.preVisitDirectory(tmp, null), equalTo(CONTINUE));
+        assertThat(resolver.preVisitDirectory(tmp.resolve("build"), null), equalTo(CONTINUE));
+        assertThat(resolver.preVisitDirectory(build, null), equalTo(CONTINUE));
+        assertThat(resolver.preVisitDirectory(other, null), equalTo(SKIP_SUBTREE));
+        assertThat(Artifacts.matchFiles(null, tmp, Arrays.asList(pattern)).get(pattern), containsInAnyOrder(zip));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void unanchoredPatternsDisablePruning(@TempDir Path tmp) throws IOException {
+        // given:
+        Path build = Files.createDirectories(tmp.resolve("build"));
+        Path other = Files.createDirectories(tmp.resolve("other"));
+        Path zip = touch(build.resolve("app.zip"));
+        Path jar = touch(other.resolve("app.jar"));
+        String zips = "glob:" + build.toAbsolutePath() + "/*.zip";
+        String jars = "glob:**/*.jar";
+
+        // when:
+        Artifacts.GlobResolver resolver = new Artifacts.GlobResolver(null, tmp, Arrays.asList(zips, jars));
+        Map<String, Set<Path>> matches = Artifacts.matchFiles(null, tmp, Arrays.asList(zips, jars));
+
+        // then:
+        assertThat(resolver.preVisitDirectory(other, null), equalTo(CONTINUE));
+        assertThat(matches.get(zips), containsInAnyOrder(zip));
+        assertThat(matches.get(jars), containsInAnyOrder(jar));
+    }
+
+    private static Path touch(Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        return Files.write(path, new byte[]{1});
+    }
+}
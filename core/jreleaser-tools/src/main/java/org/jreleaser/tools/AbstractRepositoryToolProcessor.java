@@ -92,9 +92,6 @@ abstract class AbstractRepositoryToolProcessor<T extends RepositoryTool> extends
                 .addFilepattern(".")
                 .call();
 
-            props.putAll(distribution.props());
-            context.getModel().getRelease().getGitService().fillProps(props, context.getModel());
-
             // setup commit
             context.getLogger().debug(RB.$("repository.commit.setup"));
             CommitCommand commitCommand = git.commit()
@@ -26,6 +26,7 @@ import org.jreleaser.model.tool.spi.ToolProcessingException;
 import org.jreleaser.model.tool.spi.ToolProcessor;
 import org.jreleaser.util.Algorithm;
 import org.jreleaser.util.FileUtils;
+import org.jreleaser.util.PropertyScope;
 import org.jreleaser.util.StringUtils;
 import org.jreleaser.util.command.Command;
 import org.jreleaser.util.command.CommandException;
@@ -43,6 +44,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -167,6 +169,24 @@ abstract class AbstractToolProcessor<T extends Tool> implements ToolProcessor<T>
     protected abstract void doPublishDistribution(Distribution distribution, Map<String, Object> props) throws ToolProcessingException;
 
     protected Map<String, Object> fillProps(Distribution distribution, Map<String, Object> props) throws ToolProcessingException {
+        // resolved once, then layered on top of the given props in every lifecycle phase
+        Map<String, Object> resolvedProps = context.getResolvedToolProps(distribution.getName(), getToolName());
+        if (null == resolvedProps) {
+            context.setResolvedToolProps(distribution.getName(), getToolName(), resolveProps(distribution, props));
+            resolvedProps = context.getResolvedToolProps(distribution.getName(), getToolName());
+        }
+
+        if (resolvedProps.isEmpty()) {
+            // we can't continue with this tool
+            return Collections.emptyMap();
+        }
+
+        Map<String, Object> newProps = PropertyScope.of(props);
+        newProps.putAll(resolvedProps);
+        return newProps;
+    }
+
+    private Map<String, Object> resolveProps(Distribution distribution, Map<String, Object> props) throws ToolProcessingException {
         Map<String, Object> newProps = new LinkedHashMap<>(props);
         context.getLogger().debug(RB.$("tool.fill.distribution.properties"));
         fillDistributionProperties(newProps, distribution);
@@ -184,7 +204,15 @@ abstract class AbstractToolProcessor<T extends Tool> implements ToolProcessor<T>
             newProps.put(KEY_REVERSE_REPO_HOST,
                 tool.getExtraProperties().get(KEY_REVERSE_REPO_HOST));
         }
-        return newProps;
+
+        // keep only what differs from the given props
+        Map<String, Object> resolvedProps = new LinkedHashMap<>();
+        newProps.forEach((k, v) -> {
+            if (!props.containsKey(k) || !Objects.equals(props.get(k), v)) {
+                resolvedProps.put(k, v);
+            }
+        });
+        return resolvedProps;
     }
 
     protected void fillDistributionProperties(Map<String, Object> props, Distribution distribution) {
@@ -318,7 +346,7 @@ abstract class AbstractToolProcessor<T extends Tool> implements ToolProcessor<T>
                 props.put("artifact" + artifactPlatform + "Checksum" + capitalize(algorithm.formatted()), artifact.getHash(algorithm));
                 props.put("artifact" + artifactPlatformReplaced + "Checksum" + capitalize(algorithm.formatted()), artifact.getHash(algorithm));
             }
-            Map<String, Object> newProps = new LinkedHashMap<>(props);
+            Map<String, Object> newProps = PropertyScope.of(props);
             newProps.put(KEY_ARTIFACT_FILE_NAME, artifactFileName);
             newProps.put(KEY_ARTIFACT_NAME, artifactName);
             newProps.put(KEY_ARTIFACT_ARCHIVE_FORMAT, archiveFormat);
@@ -29,10 +29,10 @@ import org.jreleaser.model.tool.spi.ToolProcessingException;
 import org.jreleaser.util.Algorithm;
 import org.jreleaser.util.MustacheUtils;
 import org.jreleaser.util.PlatformUtils;
+import org.jreleaser.util.PropertyScope;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -188,7 +188,7 @@ public class BrewToolProcessor extends AbstractRepositoryToolProcessor<Brew> {
                 }
 
                 if (isNotBlank(template)) {
-                    Map<String, Object> newProps = new LinkedHashMap<>(props);
+                    Map<String, Object> newProps = PropertyScope.of(props);
                     newProps.put(KEY_DISTRIBUTION_URL, artifactUrl);
                     newProps.put(KEY_DISTRIBUTION_CHECKSUM_SHA_256, artifact.getHash(Algorithm.SHA_256));
                     multiPlatforms.add(applyTemplate(template, newProps));
@@ -216,7 +216,7 @@ public class BrewToolProcessor extends AbstractRepositoryToolProcessor<Brew> {
         String artifactFileName = artifact.getEffectivePath(context).getFileName().toString();
         String artifactName = getFilename(artifactFileName, tool.getSupportedExtensions());
         String archiveFormat = artifactFileName.substring(artifactName.length() + 1);
-        Map<String, Object> newProps = new LinkedHashMap<>(props);
+        Map<String, Object> newProps = PropertyScope.of(props);
         newProps.put(KEY_ARTIFACT_FILE_NAME, artifactFileName);
         newProps.put(KEY_ARTIFACT_NAME, artifactName);
         newProps.put(KEY_ARTIFACT_ARCHIVE_FORMAT, archiveFormat);
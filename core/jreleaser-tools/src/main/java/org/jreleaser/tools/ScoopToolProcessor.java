@@ -24,9 +24,9 @@ import org.jreleaser.model.Project;
 import org.jreleaser.model.Scoop;
 import org.jreleaser.model.tool.spi.ToolProcessingException;
 import org.jreleaser.util.Constants;
+import org.jreleaser.util.PropertyScope;
 
 import java.nio.file.Path;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.jreleaser.templates.TemplateUtils.trimTplExtension;
@@ -80,7 +80,7 @@ public class ScoopToolProcessor extends AbstractRepositoryToolProcessor<Scoop> {
         artifactFilename = artifactFilename.replace(projectVersion, "$version");
         tagName = tagName.replace(projectVersion, "$version");
 
-        Map<String, Object> copy = new LinkedHashMap<>(props);
+        Map<String, Object> copy = PropertyScope.of(props);
         copy.put(Constants.KEY_PROJECT_VERSION, "$version");
         copy.put(Constants.KEY_PROJECT_EFFECTIVE_VERSION, "$version");
         copy.put(Constants.KEY_TAG_NAME, tagName);
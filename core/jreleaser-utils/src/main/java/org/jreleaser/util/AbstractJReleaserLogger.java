@@ -21,20 +21,32 @@ import java.io.PrintWriter;
 import java.util.Stack;
 
 /**
+ * Prefix and indentation are tracked per thread. Threads started while logging inherit a copy of
+ * the scope of their parent, which lets concurrent tasks adjust their own scope independently.
+ *
  * @author Andres Almiray
  * @since 0.1.0
  */
 public abstract class AbstractJReleaserLogger implements JReleaserLogger {
-    private final Stack<String> prefix = new Stack<>();
+    private final ThreadLocal<Scope> scope = new InheritableThreadLocal<Scope>() {
+        @Override
+        protected Scope initialValue() {
+            return new Scope();
+        }
+
+        @Override
+        protected Scope childValue(Scope parent) {
+            return parent.copy();
+        }
+    };
     private final PrintWriter tracer;
-    private String indent = "";
 
     protected AbstractJReleaserLogger(PrintWriter tracer) {
         this.tracer = tracer;
     }
 
     protected boolean isIndented() {
-        return !indent.equals("");
+        return !scope.get().indent.equals("");
     }
 
     @Override
@@ -44,36 +56,39 @@ public abstract class AbstractJReleaserLogger implements JReleaserLogger {
 
     @Override
     public void reset() {
-        this.prefix.clear();
-        this.indent = "";
+        scope.get().prefix.clear();
+        scope.get().indent = "";
     }
 
     @Override
     public void setPrefix(String prefix) {
-        this.prefix.push(prefix);
+        scope.get().prefix.push(prefix);
     }
 
     @Override
     public void restorePrefix() {
-        if (!this.prefix.isEmpty()) {
-            this.prefix.pop();
+        Stack<String> prefix = scope.get().prefix;
+        if (!prefix.isEmpty()) {
+            prefix.pop();
         }
     }
 
     @Override
     public void increaseIndent() {
-        indent += "  ";
+        scope.get().indent += "  ";
     }
 
     @Override
     public void decreaseIndent() {
-        if (indent.length() > 0) {
-            indent = indent.substring(0, indent.length() - 2);
+        Scope s = scope.get();
+        if (s.indent.length() > 0) {
+            s.indent = s.indent.substring(0, s.indent.length() - 2);
         }
     }
 
     protected String formatMessage(String message) {
-        return indent + (!prefix.isEmpty() ? "[" + prefix.peek() + "] " : "") + message;
+        Scope s = scope.get();
+        return s.indent + (!s.prefix.isEmpty() ? "[" + s.prefix.peek() + "] " : "") + message;
     }
 
     @Override
@@ -100,4 +115,16 @@ public abstract class AbstractJReleaserLogger implements JReleaserLogger {
             tracer.flush();
         }
     }
+
+    private static class Scope {
+        private final Stack<String> prefix = new Stack<>();
+        private String indent = "";
+
+        private Scope copy() {
+            Scope copy = new Scope();
+            copy.prefix.addAll(prefix);
+            copy.indent = indent;
+            return copy;
+        }
+    }
 }
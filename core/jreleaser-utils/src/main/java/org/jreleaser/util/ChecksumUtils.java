@@ -23,12 +23,22 @@ import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.jreleaser.bundle.RB;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author Andres Almiray
  * @since 0.3.0
  */
 public class ChecksumUtils {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
     private ChecksumUtils() {
         // prevent instantiation
     }
@@ -65,4 +75,94 @@ public class ChecksumUtils {
                 throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
         }
     }
+
+    public static Map<Algorithm, String> checksum(Collection<Algorithm> algorithms, Path input) throws IOException {
+        Map<Algorithm, Digester> digesters = new LinkedHashMap<>();
+        for (Algorithm algorithm : algorithms) {
+            digesters.put(algorithm, digester(algorithm));
+        }
+
+        byte[] buffer = BUFFER.get();
+        try (InputStream in = Files.newInputStream(input)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                for (Digester digester : digesters.values()) {
+                    digester.update(buffer, 0, read);
+                }
+            }
+        }
+
+        Map<Algorithm, String> checksums = new LinkedHashMap<>();
+        digesters.forEach((algorithm, digester) -> checksums.put(algorithm, digester.hex()));
+        return checksums;
+    }
+
+    private static Digester digester(Algorithm algorithm) throws IOException {
+        switch (algorithm) {
+            case MD2:
+                return new MessageDigester(DigestUtils.getMd2Digest());
+            case MD5:
+                return new MessageDigester(DigestUtils.getMd5Digest());
+            case RMD160:
+                return new RipeMd160Digester();
+            case SHA_1:
+                return new MessageDigester(DigestUtils.getSha1Digest());
+            case SHA_256:
+                return new MessageDigester(DigestUtils.getSha256Digest());
+            case SHA_384:
+                return new MessageDigester(DigestUtils.getSha384Digest());
+            case SHA_512:
+                return new MessageDigester(DigestUtils.getSha512Digest());
+            case SHA3_224:
+                return new MessageDigester(DigestUtils.getSha3_224Digest());
+            case SHA3_256:
+                return new MessageDigester(DigestUtils.getSha3_256Digest());
+            case SHA3_384:
+                return new MessageDigester(DigestUtils.getSha3_384Digest());
+            case SHA3_512:
+                return new MessageDigester(DigestUtils.getSha3_512Digest());
+            default:
+                throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
+        }
+    }
+
+    private interface Digester {
+        void update(byte[] data, int offset, int length);
+
+        String hex();
+    }
+
+    private static class MessageDigester implements Digester {
+        private final MessageDigest digest;
+
+        private MessageDigester(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void update(byte[] data, int offset, int length) {
+            digest.update(data, offset, length);
+        }
+
+        @Override
+        public String hex() {
+            return Hex.encodeHexString(digest.digest());
+        }
+    }
+
+    private static class RipeMd160Digester implements Digester {
+        private final RIPEMD160Digest digest = new RIPEMD160Digest();
+
+        @Override
+        public void update(byte[] data, int offset, int length) {
+            digest.update(data, offset, length);
+        }
+
+        @Override
+        public String hex() {
+            byte[] output = new byte[digest.getDigestSize()];
+            digest.doFinal(output, 0);
+            return Hex.encodeHexString(output);
+        }
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.commons.compress.archivers.ArchiveStreamFactory;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
@@ -34,10 +35,12 @@ import org.apache.commons.compress.utils.IOUtils;
 import org.jreleaser.bundle.RB;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileSystemLoopException;
 import java.nio.file.FileVisitResult;
@@ -56,6 +59,8 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
 import java.util.zip.ZipOutputStream;
 
@@ -78,9 +83,15 @@ public final class FileUtils {
         "LICENSE.adoc"
     };
 
-    private static final String TGZ = ".tgz";
-    private static final String TAR_BZ2 = ".tar.bz2";
-    private static final String TAR_GZ = ".tar.gz";
+    private static final String[] COMPRESSED_FILE_EXTENSIONS = {
+        ".jar", ".war", ".ear", ".jmod", ".zip", ".gz", ".tgz", ".bz2", ".xz", ".7z",
+        ".png", ".jpg", ".jpeg", ".gif"
+    };
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    static final String TGZ = ".tgz";
+    static final String TAR_BZ2 = ".tar.bz2";
+    static final String TAR_GZ = ".tar.gz";
 
     private FileUtils() {
         //noop
@@ -119,26 +130,71 @@ public final class FileUtils {
             Files.walkFileTree(src, new SimpleFileVisitor<Path>() {
                 @Override
                 public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                    String entryName = src.relativize(file).toString();
-                    File inputFile = file.toFile();
-                    ZipArchiveEntry archiveEntry = new ZipArchiveEntry(inputFile, entryName);
+                    out.putArchiveEntry(createZipEntry(src, file));
 
-                    archiveEntry.setMethod(ZipOutputStream.DEFLATED);
-                    if (inputFile.isFile() && Files.isExecutable(file)) {
-                        archiveEntry.setUnixMode(0100755);
+                    if (Files.isRegularFile(file)) {
+                        copy(file, out);
                     }
+                    out.closeArchiveEntry();
 
-                    out.putArchiveEntry(archiveEntry);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+    }
 
-                    if (inputFile.isFile()) {
-                        out.write(Files.readAllBytes(file));
-                    }
-                    out.closeArchiveEntry();
+    public static void zip(Path src, Path dest, int threads) throws IOException {
+        if (threads <= 1) {
+            zip(src, dest);
+            return;
+        }
+
+        ExecutorService executor = ConcurrencyUtils.newFixedThreadPool("zip", threads);
+        try {
+            ParallelScatterZipCreator creator = new ParallelScatterZipCreator(executor);
+
+            Files.walkFileTree(src, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                    boolean regularFile = Files.isRegularFile(file);
+                    creator.addArchiveEntry(createZipEntry(src, file), () -> {
+                        if (!regularFile) return new ByteArrayInputStream(new byte[0]);
+                        try {
+                            return Files.newInputStream(file);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
 
                     return FileVisitResult.CONTINUE;
                 }
             });
+
+            try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(dest.toFile())) {
+                creator.writeTo(out);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) throw ((UncheckedIOException) e.getCause()).getCause();
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static ZipArchiveEntry createZipEntry(Path src, Path file) {
+        String entryName = src.relativize(file).toString();
+        ZipArchiveEntry archiveEntry = new ZipArchiveEntry(file.toFile(), entryName);
+
+        // no point in deflating entries that are compressed already
+        archiveEntry.setMethod(isCompressed(entryName) ? ZipOutputStream.STORED : ZipOutputStream.DEFLATED);
+        if (Files.isRegularFile(file) && Files.isExecutable(file)) {
+            archiveEntry.setUnixMode(0100755);
         }
+
+        return archiveEntry;
     }
 
     public static void tar(Path src, Path dest) throws IOException {
@@ -154,6 +210,28 @@ public final class FileUtils {
         }
     }
 
+    public static void tgz(Path src, Path dest, int threads) throws IOException {
+        if (threads <= 1) {
+            tgz(src, dest);
+            return;
+        }
+
+        try (TarArchiveOutputStream out = new TarArchiveOutputStream(
+            new ParallelGzipOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING), threads))) {
+            tar(src, out);
+        }
+    }
+
+    /**
+     * Writes the contents of {@code src} into every destination in one go. The archive format of each
+     * destination is taken from its file extension (.zip, .tar, .tgz, .tar.gz, .tar.bz2). The source
+     * tree is walked and read only once, its bytes are fed to all encoders which run concurrently.
+     * Zip destinations read the tree on their own when {@code compressionThreads} is greater than 1.
+     */
+    public static void archive(Path src, List<Path> destinations, int compressionThreads) throws IOException {
+        MultiFormatArchiver.archive(src, destinations, compressionThreads);
+    }
+
     public static void bz2(Path src, Path dest) throws IOException {
         try (TarArchiveOutputStream out = new TarArchiveOutputStream(
             new BZip2CompressorOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING)))) {
@@ -166,18 +244,10 @@ public final class FileUtils {
         Files.walkFileTree(src, new SimpleFileVisitor<Path>() {
             @Override
             public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                String entryName = src.relativize(file).toString();
-                File inputFile = file.toFile();
-                TarArchiveEntry archiveEntry = (TarArchiveEntry) out.createArchiveEntry(inputFile, entryName);
-
-                if (inputFile.isFile() && Files.isExecutable(file)) {
-                    archiveEntry.setMode(0100755);
-                }
+                out.putArchiveEntry(createTarEntry(src, file));
 
-                out.putArchiveEntry(archiveEntry);
-
-                if (inputFile.isFile()) {
-                    out.write(Files.readAllBytes(file));
+                if (Files.isRegularFile(file)) {
+                    copy(file, out);
                 }
 
                 out.closeArchiveEntry();
@@ -187,6 +257,31 @@ public final class FileUtils {
         });
     }
 
+    static TarArchiveEntry createTarEntry(Path src, Path file) {
+        String entryName = src.relativize(file).toString();
+        TarArchiveEntry archiveEntry = new TarArchiveEntry(file.toFile(), entryName);
+
+        if (Files.isRegularFile(file) && Files.isExecutable(file)) {
+            archiveEntry.setMode(0100755);
+        }
+
+        return archiveEntry;
+    }
+
+    private static void copy(Path file, OutputStream out) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            IOUtils.copy(in, out, BUFFER_SIZE);
+        }
+    }
+
+    private static boolean isCompressed(String entryName) {
+        String name = entryName.toLowerCase();
+        for (String extension : COMPRESSED_FILE_EXTENSIONS) {
+            if (name.endsWith(extension)) return true;
+        }
+        return false;
+    }
+
     public static void unpackArchive(Path src, Path dest) throws IOException {
         String filename = src.getFileName().toString();
         if (filename.endsWith(TGZ) || filename.endsWith(TAR_GZ) || filename.endsWith(TAR_BZ2)) {
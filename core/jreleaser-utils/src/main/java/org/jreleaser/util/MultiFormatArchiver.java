@@ -0,0 +1,244 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.apache.commons.compress.archivers.ArchiveOutputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.jreleaser.bundle.RB;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+
+/**
+ * Builds several archives out of the same directory while reading it only once.
+ * <p>
+ * The calling thread walks the tree and reads every file in chunks. Entries and chunks are
+ * published to one bounded queue per destination, each drained by its own encoder thread.
+ * Chunks are never mutated once published so they can be shared by all encoders.
+ * <p>
+ * When {@code compressionThreads} is greater than 1, zip destinations are built with
+ * {@link FileUtils#zip(Path, Path, int)} alongside the shared pass instead, as zip entries can
+ * only be deflated in parallel by reading each file independently.
+ *
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+final class MultiFormatArchiver {
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int QUEUE_CAPACITY = 32;
+    private static final Event CLOSE_ENTRY = new Event(null, null, 0);
+    private static final Event FINISH = new Event(null, null, 0);
+
+    private MultiFormatArchiver() {
+        //noop
+    }
+
+    static void archive(Path src, List<Path> destinations, int compressionThreads) throws IOException {
+        if (destinations.isEmpty()) return;
+
+        ExecutorService executor = ConcurrencyUtils.newFixedThreadPool("archive", destinations.size());
+        try {
+            List<Future<Void>> zips = new ArrayList<>();
+            List<Encoder> encoders = new ArrayList<>();
+            for (Path destination : destinations) {
+                if (compressionThreads > 1 && isZip(destination)) {
+                    zips.add(executor.submit(() -> {
+                        FileUtils.zip(src, destination, compressionThreads);
+                        return null;
+                    }));
+                    continue;
+                }
+
+                Encoder encoder = new Encoder(src, destination, compressionThreads);
+                encoder.future = executor.submit(encoder);
+                encoders.add(encoder);
+            }
+
+            if (!encoders.isEmpty()) {
+                share(src, encoders);
+            }
+            for (Future<Void> zip : zips) {
+                await(zip);
+            }
+        } finally {
+            // encoders may still be writing to their destinations
+            executor.shutdownNow();
+            ConcurrencyUtils.awaitTermination(executor);
+        }
+    }
+
+    private static void share(Path src, List<Encoder> encoders) throws IOException {
+        Files.walkFileTree(src, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                publish(encoders, new Event(file, null, 0));
+
+                if (Files.isRegularFile(file)) {
+                    try (InputStream in = Files.newInputStream(file)) {
+                        byte[] chunk = new byte[CHUNK_SIZE];
+                        int read;
+                        while ((read = in.read(chunk)) != -1) {
+                            if (read == 0) continue;
+                            publish(encoders, new Event(null, chunk, read));
+                            chunk = new byte[CHUNK_SIZE];
+                        }
+                    }
+                }
+
+                publish(encoders, CLOSE_ENTRY);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        publish(encoders, FINISH);
+        for (Encoder encoder : encoders) {
+            await(encoder.future);
+        }
+    }
+
+    private static boolean isZip(Path destination) {
+        return destination.getFileName().toString().endsWith(".zip");
+    }
+
+    private static void publish(List<Encoder> encoders, Event event) throws IOException {
+        for (Encoder encoder : encoders) {
+            try {
+                while (!encoder.queue.offer(event, 100, TimeUnit.MILLISECONDS)) {
+                    // an encoder that stopped early will never drain its queue
+                    if (encoder.future.isDone()) await(encoder.future);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+
+    private static void await(Future<Void> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof UncheckedIOException) throw ((UncheckedIOException) cause).getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    private static final class Event {
+        private final Path file;
+        private final byte[] data;
+        private final int length;
+
+        private Event(Path file, byte[] data, int length) {
+            this.file = file;
+            this.data = data;
+            this.length = length;
+        }
+    }
+
+    private static final class Encoder implements Callable<Void> {
+        private final BlockingQueue<Event> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final Path src;
+        private final Path destination;
+        private final int compressionThreads;
+        private final boolean zip;
+        private Future<Void> future;
+
+        private Encoder(Path src, Path destination, int compressionThreads) {
+            this.src = src;
+            this.destination = destination;
+            this.compressionThreads = compressionThreads;
+            this.zip = isZip(destination);
+        }
+
+        @Override
+        public Void call() throws Exception {
+            try (ArchiveOutputStream out = open()) {
+                while (true) {
+                    Event event = queue.take();
+                    if (event == FINISH) {
+                        out.finish();
+                        return null;
+                    } else if (event == CLOSE_ENTRY) {
+                        out.closeArchiveEntry();
+                    } else if (null != event.file) {
+                        out.putArchiveEntry(zip ?
+                            FileUtils.createZipEntry(src, event.file) :
+                            FileUtils.createTarEntry(src, event.file));
+                    } else {
+                        out.write(event.data, 0, event.length);
+                    }
+                }
+            }
+        }
+
+        private ArchiveOutputStream open() throws IOException {
+            String filename = destination.getFileName().toString();
+            if (zip) {
+                ZipArchiveOutputStream out = new ZipArchiveOutputStream(destination.toFile());
+                out.setMethod(ZipOutputStream.DEFLATED);
+                return out;
+            }
+
+            OutputStream out = Files.newOutputStream(destination, CREATE, TRUNCATE_EXISTING);
+            if (filename.endsWith(FileUtils.TGZ) || filename.endsWith(FileUtils.TAR_GZ)) {
+                out = compressionThreads > 1 ?
+                    new ParallelGzipOutputStream(out, compressionThreads) :
+                    new GzipCompressorOutputStream(out);
+            } else if (filename.endsWith(FileUtils.TAR_BZ2)) {
+                out = new BZip2CompressorOutputStream(out);
+            } else if (!filename.endsWith(".tar")) {
+                out.close();
+                throw new IllegalArgumentException(RB.$("ERROR_unsupported_archive_format", filename));
+            }
+
+            TarArchiveOutputStream tar = new TarArchiveOutputStream(out);
+            tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            return tar;
+        }
+    }
+}
@@ -30,8 +30,12 @@ import java.io.StringWriter;
 import java.io.Writer;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.AbstractMap;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 
@@ -42,28 +46,33 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  * @since 0.1.0
  */
 public final class MustacheUtils {
+    private static final int TEMPLATE_CACHE_SIZE = 512;
+    private static final MustacheFactory MUSTACHE_FACTORY = new MyMustacheFactory();
+    // compiled templates keyed by template text, least recently used are evicted first
+    private static final Map<String, Mustache> TEMPLATE_CACHE = Collections.synchronizedMap(
+        new LinkedHashMap<String, Mustache>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Mustache> eldest) {
+                return size() > TEMPLATE_CACHE_SIZE;
+            }
+        });
+
     private MustacheUtils() {
         //noop
     }
 
-    private static Map<String, String> envVars() {
-        Map<String, String> vars = new LinkedHashMap<>();
+    private static Map<String, Object> envVars() {
+        Map<String, Object> vars = new LinkedHashMap<>();
         System.getenv().forEach((k, v) -> {
             if (!k.startsWith("JRELEASER_")) {
                 vars.put("Env." + k, v);
             }
         });
-        return vars;
+        return Collections.unmodifiableMap(vars);
     }
 
     public static String applyTemplate(Reader reader, Map<String, Object> context, String templateName) {
-        StringWriter input = new StringWriter();
-        MustacheFactory mf = new MyMustacheFactory();
-        Mustache mustache = mf.compile(reader, templateName);
-        context.putAll(envVars());
-        mustache.execute(input, context);
-        input.flush();
-        return input.toString();
+        return applyTemplate(read(reader, templateName), context, templateName);
     }
 
     public static String applyTemplate(Reader reader, Map<String, Object> context) {
@@ -71,11 +80,34 @@ public final class MustacheUtils {
     }
 
     public static String applyTemplate(String template, Map<String, Object> context, String templateName) {
-        return applyTemplate(new StringReader(template), context, templateName);
+        Mustache mustache = TEMPLATE_CACHE.get(template);
+        if (null == mustache) {
+            mustache = MUSTACHE_FACTORY.compile(new StringReader(template), templateName);
+            TEMPLATE_CACHE.put(template, mustache);
+        }
+
+        StringWriter input = new StringWriter();
+        mustache.execute(input, new TemplateScope(context));
+        input.flush();
+        return input.toString();
     }
 
     public static String applyTemplate(String template, Map<String, Object> context) {
-        return applyTemplate(new StringReader(template), context, UUID.randomUUID().toString()).trim();
+        return applyTemplate(template, context, UUID.randomUUID().toString()).trim();
+    }
+
+    private static String read(Reader reader, String templateName) {
+        StringWriter writer = new StringWriter();
+        char[] buffer = new char[8192];
+        try {
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                writer.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new MustacheException(RB.$("ERROR_mustache_read_template", templateName), e);
+        }
+        return writer.toString();
     }
 
     public static void applyTemplates(Map<String, Object> props, Map<String, Object> templates) {
@@ -109,6 +141,40 @@ public final class MustacheUtils {
         props.put("f_uncapitalize", new UncapitalizeFunction());
     }
 
+    private static class EnvVars {
+        // resolved on first use, the environment does not change while running
+        private static final Map<String, Object> VARS = envVars();
+    }
+
+    /**
+     * Layers environment variables on top of a template context without copying either of them.
+     */
+    private static class TemplateScope extends AbstractMap<String, Object> {
+        private final Map<String, Object> context;
+
+        private TemplateScope(Map<String, Object> context) {
+            this.context = context;
+        }
+
+        @Override
+        public Object get(Object key) {
+            Object value = EnvVars.VARS.get(key);
+            return null != value ? value : context.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return EnvVars.VARS.containsKey(key) || context.containsKey(key);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            Map<String, Object> map = new LinkedHashMap<>(context);
+            map.putAll(EnvVars.VARS);
+            return Collections.unmodifiableSet(new LinkedHashSet<>(map.entrySet()));
+        }
+    }
+
     private static class MyMustacheFactory extends DefaultMustacheFactory {
         @Override
         public void encode(String value, Writer writer) {
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Properties;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Helpers for small on-disk indexes keyed by file, such as checksums, verified signatures and
+ * uploaded assets. Files are identified by size, modification time and file key. Indexes are
+ * written to a temporary sibling first and moved into place, readers never see partial content.
+ *
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public final class PropertiesFile {
+    private PropertiesFile() {
+        // noop
+    }
+
+    /**
+     * Cheap fingerprint of a file, changes whenever the file is written, touched or replaced.
+     */
+    public static String identity(Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        Object fileKey = attributes.fileKey();
+        return attributes.size() + ":" +
+            attributes.lastModifiedTime().toMillis() + ":" +
+            (null != fileKey ? fileKey : "");
+    }
+
+    /**
+     * Loads the given file, returns empty properties if it does not exist.
+     *
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    public static Properties load(Path file) throws IOException {
+        Properties properties = new Properties();
+        if (!Files.exists(file)) return properties;
+
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IllegalArgumentException e) {
+            // malformed unicode escapes
+            throw new IOException(e);
+        }
+        return properties;
+    }
+
+    public static void store(Path file, Properties properties) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+
+        Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, null);
+            }
+            try {
+                Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A map of properties layered on top of a parent map. Reads fall through to the parent, writes and
+ * removals stay in this scope, which makes creating a scope much cheaper than copying its parent.
+ * The parent must not change while the scope is in use.
+ *
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public final class PropertyScope extends AbstractMap<String, Object> {
+    private static final Object REMOVED = new Object();
+
+    private final Map<String, Object> parent;
+    private final Map<String, Object> local = new LinkedHashMap<>();
+
+    private PropertyScope(Map<String, Object> parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Creates an immutable snapshot of the given properties, suitable as a shared base layer.
+     */
+    public static Map<String, Object> freeze(Map<String, Object> props) {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(props));
+    }
+
+    public static PropertyScope of(Map<String, Object> parent) {
+        return new PropertyScope(parent);
+    }
+
+    public PropertyScope child() {
+        return new PropertyScope(this);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (local.containsKey(key)) {
+            Object value = local.get(key);
+            return value != REMOVED ? value : null;
+        }
+        return parent.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (local.containsKey(key)) {
+            return local.get(key) != REMOVED;
+        }
+        return parent.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        local.put(key, value);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+        if (parent.containsKey(key)) {
+            local.put((String) key, REMOVED);
+        } else {
+            local.remove(key);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        for (String key : parent.keySet()) {
+            local.put(key, REMOVED);
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = parent.size();
+        for (Map.Entry<String, Object> e : local.entrySet()) {
+            boolean inherited = parent.containsKey(e.getKey());
+            if (e.getValue() == REMOVED) {
+                if (inherited) size--;
+            } else if (!inherited) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new ScopeIterator(entries());
+            }
+
+            @Override
+            public int size() {
+                return PropertyScope.this.size();
+            }
+        };
+    }
+
+    // parent entries first, keeping their position when overridden, then entries added to this scope
+    private List<Entry<String, Object>> entries() {
+        List<Entry<String, Object>> entries = new ArrayList<>();
+        for (Map.Entry<String, Object> e : parent.entrySet()) {
+            String key = e.getKey();
+            if (!local.containsKey(key)) {
+                entries.add(new ScopeEntry(key, e.getValue()));
+            } else if (local.get(key) != REMOVED) {
+                entries.add(new ScopeEntry(key, local.get(key)));
+            }
+        }
+        for (Map.Entry<String, Object> e : local.entrySet()) {
+            if (e.getValue() != REMOVED && !parent.containsKey(e.getKey())) {
+                entries.add(new ScopeEntry(e.getKey(), e.getValue()));
+            }
+        }
+        return entries;
+    }
+
+    private class ScopeEntry extends SimpleEntry<String, Object> {
+        private ScopeEntry(String key, Object value) {
+            super(key, value);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+
+    private class ScopeIterator implements Iterator<Entry<String, Object>> {
+        private final Iterator<Entry<String, Object>> delegate;
+        private Entry<String, Object> current;
+
+        private ScopeIterator(List<Entry<String, Object>> entries) {
+            this.delegate = entries.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            current = delegate.next();
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            if (null == current) {
+                throw new IllegalStateException();
+            }
+            PropertyScope.this.remove(current.getKey());
+            current = null;
+        }
+    }
+}
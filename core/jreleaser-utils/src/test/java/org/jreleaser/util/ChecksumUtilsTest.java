@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class ChecksumUtilsTest {
+    @Test
+    public void streamingChecksumsMatchInMemoryChecksums(@TempDir Path tmp) throws IOException {
+        // given:
+        byte[] data = new byte[200 * 1024 + 17];
+        new Random(42).nextBytes(data);
+        Path input = tmp.resolve("input.bin");
+        Files.write(input, data);
+        List<Algorithm> algorithms = Arrays.asList(Algorithm.SHA_512, Algorithm.MD5, Algorithm.RMD160,
+            Algorithm.SHA_1, Algorithm.SHA_256);
+
+        // when:
+        Map<Algorithm, String> checksums = ChecksumUtils.checksum(algorithms, input);
+
+        // then:
+        assertThat(checksums.keySet(), contains(algorithms.toArray()));
+        for (Algorithm algorithm : algorithms) {
+            assertThat(checksums.get(algorithm), equalTo(ChecksumUtils.checksum(algorithm, data)));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class ConcurrencyUtilsTest {
+    @Test
+    public void resultsFollowSubmissionOrder() {
+        // given:
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            int value = i;
+            tasks.add(() -> {
+                Thread.sleep((8 - value) * 5L);
+                return value;
+            });
+        }
+
+        // when:
+        List<Integer> results = ConcurrencyUtils.invokeAll("test", 4, tasks);
+
+        // then:
+        assertThat(results, contains(0, 1, 2, 3, 4, 5, 6, 7));
+    }
+
+    @Test
+    public void failuresArePropagated() {
+        // given:
+        List<Runnable> tasks = new ArrayList<>();
+        tasks.add(() -> {
+        });
+        tasks.add(() -> {
+            throw new IllegalArgumentException("boom");
+        });
+
+        // expect:
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> ConcurrencyUtils.runAll("test", 2, tasks));
+        assertThat(e.getMessage(), equalTo("boom"));
+    }
+
+    @Test
+    public void failuresWaitForRunningTasks() {
+        // given:
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+        List<Runnable> tasks = new ArrayList<>();
+        tasks.add(() -> {
+            started.countDown();
+            long deadline = System.currentTimeMillis() + 200L;
+            while (System.currentTimeMillis() < deadline) {
+                try {
+                    Thread.sleep(10L);
+                } catch (InterruptedException ignored) {
+                    // keep running, like a task blocked in I/O
+                }
+            }
+            finished.set(true);
+        });
+        tasks.add(() -> {
+            try {
+                started.await();
+            } catch (InterruptedException ignored) {
+                // fail anyway
+            }
+            throw new IllegalArgumentException("boom");
+        });
+
+        // when:
+        assertThrows(IllegalArgumentException.class, () -> ConcurrencyUtils.runAll("test", 2, tasks));
+
+        // then:
+        assertThat(finished.get(), equalTo(true));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class MustacheUtilsTest {
+    @Test
+    public void compiledTemplatesAreReusedWithDifferentContexts() {
+        // given:
+        String template = "{{projectName}}-{{projectVersion}}";
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("projectName", "app");
+        first.put("projectVersion", "1.0.0");
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("projectName", "tool");
+        second.put("projectVersion", "2.0.0");
+
+        // expect:
+        assertThat(MustacheUtils.applyTemplate(template, first), equalTo("app-1.0.0"));
+        assertThat(MustacheUtils.applyTemplate(template, second), equalTo("tool-2.0.0"));
+        assertThat(MustacheUtils.applyTemplate(new StringReader(template), first), equalTo("app-1.0.0"));
+    }
+
+    @Test
+    public void environmentIsNotCopiedIntoContext() {
+        // given:
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("projectName", "app");
+
+        // when:
+        MustacheUtils.applyTemplate("{{projectName}}", context);
+
+        // then:
+        assertThat(context.size(), equalTo(1));
+        assertThat(context, not(hasKey("Env.PATH")));
+    }
+}
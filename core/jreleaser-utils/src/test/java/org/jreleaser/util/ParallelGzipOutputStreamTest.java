@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class ParallelGzipOutputStreamTest {
+    @Test
+    public void outputCanBeReadBackWithGzip() throws IOException {
+        for (int size : new int[]{0, 1, 128 * 1024, 128 * 1024 + 1, 1024 * 1024 + 17}) {
+            // given:
+            byte[] data = new byte[size];
+            Random random = new Random(size);
+            for (int i = 0; i < size; i++) {
+                data[i] = (byte) ('a' + random.nextInt(8));
+            }
+
+            // when:
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (ParallelGzipOutputStream out = new ParallelGzipOutputStream(compressed, 4)) {
+                out.write(data, 0, size / 2);
+                out.write(data, size / 2, size - size / 2);
+            }
+
+            // then:
+            ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    decompressed.write(buffer, 0, read);
+                }
+            }
+            assertThat(decompressed.toByteArray(), equalTo(data));
+        }
+    }
+}
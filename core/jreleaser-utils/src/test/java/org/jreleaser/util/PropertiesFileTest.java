@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class PropertiesFileTest {
+    @Test
+    public void storedPropertiesCanBeLoadedBack(@TempDir Path tmp) throws IOException {
+        // given:
+        Path file = tmp.resolve("index").resolve("entries.properties");
+        Properties properties = new Properties();
+        properties.setProperty("key", "value");
+
+        // when:
+        PropertiesFile.store(file, properties);
+
+        // then:
+        assertThat(PropertiesFile.load(file), equalTo(properties));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertThat(files.collect(Collectors.toList()), contains(file));
+        }
+    }
+
+    @Test
+    public void missingFileLoadsEmpty(@TempDir Path tmp) throws IOException {
+        // expect:
+        assertThat(PropertiesFile.load(tmp.resolve("missing.properties")).isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void malformedFileFailsToLoad(@TempDir Path tmp) throws IOException {
+        // given:
+        Path file = tmp.resolve("corrupt.properties");
+        Files.write(file, "key=\\uZZZZ".getBytes());
+
+        // expect:
+        assertThrows(IOException.class, () -> PropertiesFile.load(file));
+    }
+
+    @Test
+    public void identityChangesWhenFileIsTouched(@TempDir Path tmp) throws IOException {
+        // given:
+        Path file = tmp.resolve("file.txt");
+        Files.write(file, "content".getBytes());
+        String identity = PropertiesFile.identity(file);
+
+        // when:
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() - 60_000L));
+
+        // then:
+        assertThat(PropertiesFile.identity(file), not(equalTo(identity)));
+    }
+}
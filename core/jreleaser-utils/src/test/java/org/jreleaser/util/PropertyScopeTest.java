@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class PropertyScopeTest {
+    @Test
+    public void writesDoNotLeakIntoParent() {
+        // given:
+        Map<String, Object> base = new LinkedHashMap<>();
+        base.put("projectName", "app");
+        base.put("projectVersion", "1.0.0");
+        Map<String, Object> parent = PropertyScope.freeze(base);
+
+        // when:
+        PropertyScope scope = PropertyScope.of(parent);
+        scope.put("projectVersion", "2.0.0");
+        scope.put("distributionName", "app-cli");
+        scope.remove("projectName");
+
+        // then:
+        assertThat(scope.get("projectVersion"), equalTo("2.0.0"));
+        assertThat(scope.get("projectName"), nullValue());
+        assertThat(scope, not(hasKey("projectName")));
+        assertThat(scope, hasEntry("distributionName", "app-cli"));
+        assertThat(scope.size(), equalTo(2));
+        assertThat(parent, hasEntry("projectName", "app"));
+        assertThat(parent, hasEntry("projectVersion", "1.0.0"));
+        assertThat(parent.size(), equalTo(2));
+    }
+
+    @Test
+    public void iterationKeepsInsertionOrder() {
+        // given:
+        Map<String, Object> base = new LinkedHashMap<>();
+        base.put("a", 1);
+        base.put("b", 2);
+        base.put("c", 3);
+
+        // when:
+        PropertyScope scope = PropertyScope.of(PropertyScope.freeze(base)).child();
+        scope.put("d", 4);
+        scope.put("b", 20);
+        scope.remove("a");
+
+        // then:
+        assertThat(scope.keySet(), contains("b", "c", "d"));
+        assertThat(scope.values(), contains(20, 3, 4));
+        assertThat(new LinkedHashMap<>(scope), equalTo(scope));
+    }
+}
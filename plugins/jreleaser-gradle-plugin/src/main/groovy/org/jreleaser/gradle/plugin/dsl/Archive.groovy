@@ -36,6 +36,8 @@ interface Archive extends Assembler {
 
     Property<Boolean> getAttachPlatform()
 
+    Property<Integer> getCompressionThreads()
+
     SetProperty<org.jreleaser.model.Archive.Format> getFormats()
 
     void format(String format)
@@ -97,6 +97,8 @@ interface GitService extends Releaser {
 
     Property<Integer> getReadTimeout()
 
+    Property<Integer> getUploadParallelism()
+
     Property<Boolean> getArtifacts()
 
     Property<Boolean> getFiles()
@@ -38,6 +38,10 @@ interface Jlink extends JavaAssembler {
 
     Property<Boolean> getCopyJars()
 
+    Property<Integer> getParallelism()
+
+    Property<Integer> getCompressionThreads()
+
     SetProperty<String> getModuleNames()
 
     SetProperty<String> getAdditionalModuleNames()
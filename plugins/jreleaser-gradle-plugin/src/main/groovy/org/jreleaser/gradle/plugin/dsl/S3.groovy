@@ -40,6 +40,10 @@ interface S3 extends Uploader {
 
     Property<String> getEndpoint()
 
+    Property<Integer> getPartSize()
+
+    Property<Integer> getPartThreads()
+
     Property<String> getPath()
 
     Property<String> getDownloadUrl()
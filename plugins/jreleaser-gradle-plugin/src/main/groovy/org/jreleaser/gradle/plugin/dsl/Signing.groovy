@@ -56,6 +56,8 @@ interface Signing extends Activatable {
 
     Property<Boolean> getDefaultKeyring()
 
+    Property<Integer> getParallelism()
+
     ListProperty<String> getArgs()
 
     void addArg(String arg)
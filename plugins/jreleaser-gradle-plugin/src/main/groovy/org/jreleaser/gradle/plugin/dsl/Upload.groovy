@@ -30,6 +30,12 @@ import org.gradle.api.provider.Property
 interface Upload {
     Property<Boolean> getEnabled()
 
+    Property<Integer> getParallelism()
+
+    Property<Integer> getMaxRetries()
+
+    Property<Boolean> getIncremental()
+
     NamedDomainObjectContainer<Artifactory> getArtifactory()
 
     NamedDomainObjectContainer<Http> getHttp()
@@ -31,6 +31,8 @@ interface Uploader extends Activatable, ExtraProperties {
 
     Property<Integer> getReadTimeout()
 
+    Property<Integer> getParallelism()
+
     Property<Boolean> getArtifacts()
 
     Property<Boolean> getFiles()
@@ -66,6 +66,7 @@ abstract class AbstractGitService implements GitService {
     final Property<String> apiEndpoint
     final Property<Integer> connectTimeout
     final Property<Integer> readTimeout
+    final Property<Integer> uploadParallelism
     final Property<Boolean> artifacts
     final Property<Boolean> files
     final Property<Boolean> checksums
@@ -101,6 +102,7 @@ abstract class AbstractGitService implements GitService {
         apiEndpoint = objects.property(String).convention(Providers.notDefined())
         connectTimeout = objects.property(Integer).convention(Providers.notDefined())
         readTimeout = objects.property(Integer).convention(Providers.notDefined())
+        uploadParallelism = objects.property(Integer).convention(Providers.notDefined())
         artifacts = objects.property(Boolean).convention(Providers.notDefined())
         files = objects.property(Boolean).convention(Providers.notDefined())
         checksums = objects.property(Boolean).convention(Providers.notDefined())
@@ -185,6 +187,7 @@ abstract class AbstractGitService implements GitService {
             apiEndpoint.present ||
             connectTimeout.present ||
             readTimeout.present ||
+            uploadParallelism.present ||
             artifacts.present ||
             files.present ||
             checksums.present ||
@@ -253,6 +256,7 @@ abstract class AbstractGitService implements GitService {
         if (apiEndpoint.present) service.apiEndpoint = apiEndpoint.get()
         if (connectTimeout.present) service.connectTimeout = connectTimeout.get()
         if (readTimeout.present) service.readTimeout = readTimeout.get()
+        if (uploadParallelism.present) service.uploadParallelism = uploadParallelism.get()
         if (artifacts.present) service.artifacts = artifacts.get()
         if (files.present) service.files = files.get()
         if (checksums.present) service.checksums = checksums.get()
@@ -40,6 +40,7 @@ abstract class AbstractUploader implements Uploader {
     final Property<Active> active
     final Property<Integer> connectTimeout
     final Property<Integer> readTimeout
+    final Property<Integer> parallelism
     final Property<Boolean> artifacts
     final Property<Boolean> files
     final Property<Boolean> signatures
@@ -50,6 +51,7 @@ abstract class AbstractUploader implements Uploader {
         active = objects.property(Active).convention(Providers.notDefined())
         connectTimeout = objects.property(Integer).convention(Providers.notDefined())
         readTimeout = objects.property(Integer).convention(Providers.notDefined())
+        parallelism = objects.property(Integer).convention(Providers.notDefined())
         extraProperties = objects.mapProperty(String, Object).convention(Providers.notDefined())
         artifacts = objects.property(Boolean).convention(Providers.notDefined())
         files = objects.property(Boolean).convention(Providers.notDefined())
@@ -61,6 +63,7 @@ abstract class AbstractUploader implements Uploader {
         active.present ||
             connectTimeout.present ||
             readTimeout.present ||
+            parallelism.present ||
             extraProperties.present ||
             artifacts.present ||
             files.present ||
@@ -78,6 +81,7 @@ abstract class AbstractUploader implements Uploader {
         if (active.present) uploader.active = active.get()
         if (connectTimeout.present) uploader.connectTimeout = connectTimeout.get()
         if (readTimeout.present) uploader.readTimeout = readTimeout.get()
+        if (parallelism.present) uploader.parallelism = parallelism.get()
         if (extraProperties.present) uploader.extraProperties.putAll(extraProperties.get())
         if (artifacts.present) uploader.artifacts = artifacts.get()
         if (files.present) uploader.files = files.get()
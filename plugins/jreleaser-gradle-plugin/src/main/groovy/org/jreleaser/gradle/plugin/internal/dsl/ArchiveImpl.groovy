@@ -41,6 +41,7 @@ class ArchiveImpl extends AbstractAssembler implements Archive {
     final Property<String> archiveName
     final Property<DistributionType> distributionType
     final Property<Boolean> attachPlatform
+    final Property<Integer> compressionThreads
     final SetProperty<org.jreleaser.model.Archive.Format> formats
     final PlatformImpl platform
 
@@ -50,6 +51,7 @@ class ArchiveImpl extends AbstractAssembler implements Archive {
         archiveName = objects.property(String).convention(Providers.notDefined())
         distributionType = objects.property(DistributionType).convention(DistributionType.JAVA_BINARY)
         attachPlatform = objects.property(Boolean).convention(Providers.notDefined())
+        compressionThreads = objects.property(Integer).convention(Providers.notDefined())
         formats = objects.setProperty(org.jreleaser.model.Archive.Format).convention(Providers.notDefined())
         platform = objects.newInstance(PlatformImpl, objects)
     }
@@ -60,6 +62,7 @@ class ArchiveImpl extends AbstractAssembler implements Archive {
             archiveName.present ||
             distributionType.present ||
             attachPlatform.present ||
+            compressionThreads.present ||
             formats.present
     }
 
@@ -81,6 +84,7 @@ class ArchiveImpl extends AbstractAssembler implements Archive {
         fillProperties(archive)
         if (archiveName.present) archive.archiveName = archiveName.get()
         if (attachPlatform.present) archive.attachPlatform = attachPlatform.get()
+        if (compressionThreads.present) archive.compressionThreads = compressionThreads.get()
         archive.platform = platform.toModel()
         archive.distributionType = distributionType.get()
         archive.formats = (Set<org.jreleaser.model.Archive.Format>) formats.getOrElse([] as Set<org.jreleaser.model.Archive.Format>)
@@ -50,6 +50,8 @@ class JlinkImpl extends AbstractJavaAssembler implements Jlink {
     final Property<String> imageNameTransform
     final Property<String> moduleName
     final Property<Boolean> copyJars
+    final Property<Integer> parallelism
+    final Property<Integer> compressionThreads
     final ListProperty<String> args
     final SetProperty<String> moduleNames
     final SetProperty<String> additionalModuleNames
@@ -71,6 +73,8 @@ class JlinkImpl extends AbstractJavaAssembler implements Jlink {
         imageNameTransform = objects.property(String).convention(Providers.notDefined())
         moduleName = objects.property(String).convention(Providers.notDefined())
         copyJars = objects.property(Boolean).convention(Providers.notDefined())
+        parallelism = objects.property(Integer).convention(Providers.notDefined())
+        compressionThreads = objects.property(Integer).convention(Providers.notDefined())
         args = objects.listProperty(String).convention(Providers.notDefined())
         moduleNames = objects.setProperty(String).convention(Providers.notDefined())
         additionalModuleNames = objects.setProperty(String).convention(Providers.notDefined())
@@ -117,6 +121,8 @@ class JlinkImpl extends AbstractJavaAssembler implements Jlink {
             imageNameTransform.present ||
             moduleName.present ||
             copyJars.present ||
+            parallelism.present ||
+            compressionThreads.present ||
             args.present ||
             java.isSet() ||
             jdeps.isSet() ||
@@ -217,6 +223,8 @@ class JlinkImpl extends AbstractJavaAssembler implements Jlink {
         if (imageNameTransform.present) jlink.imageNameTransform = imageNameTransform.get()
         if (moduleName.present) jlink.moduleName = moduleName.get()
         if (copyJars.present) jlink.copyJars = copyJars.get()
+        if (parallelism.present) jlink.parallelism = parallelism.get()
+        if (compressionThreads.present) jlink.compressionThreads = compressionThreads.get()
         jlink.moduleNames = (Set<String>) moduleNames.getOrElse([] as Set)
         jlink.additionalModuleNames = (Set<String>) additionalModuleNames.getOrElse([] as Set)
         for (ArtifactImpl artifact : targetJdks) {
@@ -19,7 +19,9 @@ package org.jreleaser.gradle.plugin.internal.dsl
 
 import groovy.transform.CompileStatic
 import org.gradle.api.Action
+import org.gradle.api.internal.provider.Providers
 import org.gradle.api.model.ObjectFactory
+import org.gradle.api.provider.Property
 import org.jreleaser.gradle.plugin.dsl.Brew
 import org.jreleaser.gradle.plugin.dsl.Chocolatey
 import org.jreleaser.gradle.plugin.dsl.Docker
@@ -41,6 +43,7 @@ import javax.inject.Inject
  */
 @CompileStatic
 class PackagersImpl implements Packagers {
+    final Property<Integer> parallelism
     final BrewImpl brew
     final ChocolateyImpl chocolatey
     final DockerImpl docker
@@ -53,6 +56,7 @@ class PackagersImpl implements Packagers {
 
     @Inject
     PackagersImpl(ObjectFactory objects) {
+        parallelism = objects.property(Integer).convention(Providers.notDefined())
         brew = objects.newInstance(BrewImpl, objects)
         chocolatey = objects.newInstance(ChocolateyImpl, objects)
         docker = objects.newInstance(DockerImpl, objects)
@@ -156,6 +160,7 @@ class PackagersImpl implements Packagers {
 
     org.jreleaser.model.Packagers toModel() {
         org.jreleaser.model.Packagers packagers = new org.jreleaser.model.Packagers()
+        if (parallelism.present) packagers.parallelism = parallelism.get()
         if (brew.isSet()) packagers.brew = brew.toModel()
         if (chocolatey.isSet()) packagers.chocolatey = chocolatey.toModel()
         if (docker.isSet()) packagers.docker = docker.toModel()
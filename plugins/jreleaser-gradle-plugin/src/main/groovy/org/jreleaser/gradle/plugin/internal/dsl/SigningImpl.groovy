@@ -51,6 +51,7 @@ class SigningImpl implements Signing {
     final Property<String> homeDir
     final Property<String> publicKeyring
     final Property<Boolean> defaultKeyring
+    final Property<Integer> parallelism
     final ListProperty<String> args
 
     @Inject
@@ -69,6 +70,7 @@ class SigningImpl implements Signing {
         homeDir = objects.property(String).convention(Providers.notDefined())
         publicKeyring = objects.property(String).convention(Providers.notDefined())
         defaultKeyring = objects.property(Boolean).convention(Providers.notDefined())
+        parallelism = objects.property(Integer).convention(Providers.notDefined())
         args = objects.listProperty(String).convention(Providers.notDefined())
     }
 
@@ -87,6 +89,7 @@ class SigningImpl implements Signing {
             homeDir.present ||
             publicKeyring.present ||
             defaultKeyring.present ||
+            parallelism.present ||
             args.present
     }
 
@@ -128,6 +131,7 @@ class SigningImpl implements Signing {
         if (homeDir.present) signing.homeDir = homeDir.get()
         if (publicKeyring.present) signing.publicKeyring = publicKeyring.get()
         if (defaultKeyring.present) signing.defaultKeyring = defaultKeyring.get()
+        if (parallelism.present) signing.parallelism = parallelism.get()
         signing.args = (List<String>) args.getOrElse([])
         signing
     }
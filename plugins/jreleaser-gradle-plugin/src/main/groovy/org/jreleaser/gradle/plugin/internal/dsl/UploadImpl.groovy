@@ -21,6 +21,7 @@ import groovy.transform.CompileDynamic
 import groovy.transform.CompileStatic
 import org.gradle.api.NamedDomainObjectContainer
 import org.gradle.api.NamedDomainObjectFactory
+import org.gradle.api.internal.provider.Providers
 import org.gradle.api.model.ObjectFactory
 import org.gradle.api.provider.Property
 import org.jreleaser.gradle.plugin.dsl.Upload
@@ -35,6 +36,9 @@ import javax.inject.Inject
 @CompileStatic
 class UploadImpl implements Upload {
     final Property<Boolean> enabled
+    final Property<Integer> parallelism
+    final Property<Integer> maxRetries
+    final Property<Boolean> incremental
     final NamedDomainObjectContainer<ArtifactoryImpl> artifactory
     final NamedDomainObjectContainer<HttpImpl> http
     final NamedDomainObjectContainer<S3Impl> s3
@@ -42,6 +46,9 @@ class UploadImpl implements Upload {
     @Inject
     UploadImpl(ObjectFactory objects) {
         enabled = objects.property(Boolean).convention(true)
+        parallelism = objects.property(Integer).convention(Providers.notDefined())
+        maxRetries = objects.property(Integer).convention(Providers.notDefined())
+        incremental = objects.property(Boolean).convention(Providers.notDefined())
 
         artifactory = objects.domainObjectContainer(ArtifactoryImpl, new NamedDomainObjectFactory<ArtifactoryImpl>() {
             @Override
@@ -74,6 +81,9 @@ class UploadImpl implements Upload {
     @CompileDynamic
     org.jreleaser.model.Upload toModel() {
         org.jreleaser.model.Upload upload = new org.jreleaser.model.Upload()
+        if (parallelism.present) upload.parallelism = parallelism.get()
+        if (maxRetries.present) upload.maxRetries = maxRetries.get()
+        if (incremental.present) upload.incremental = incremental.get()
 
         artifactory.each { upload.addArtifactory(it.toModel()) }
         http.each { upload.addHttp(it.toModel()) }
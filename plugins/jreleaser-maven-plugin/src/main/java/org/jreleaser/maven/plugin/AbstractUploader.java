@@ -33,6 +33,7 @@ abstract class AbstractUploader implements Uploader {
     protected Active active;
     private int connectTimeout;
     private int readTimeout;
+    private int parallelism;
     private Boolean artifacts;
     private Boolean files;
     private Boolean signatures;
@@ -47,6 +48,7 @@ abstract class AbstractUploader implements Uploader {
         this.name = uploader.name;
         this.connectTimeout = uploader.connectTimeout;
         this.readTimeout = uploader.readTimeout;
+        this.parallelism = uploader.parallelism;
         this.artifacts = uploader.artifacts;
         this.files = uploader.files;
         this.signatures = uploader.signatures;
@@ -103,6 +105,16 @@ abstract class AbstractUploader implements Uploader {
         this.readTimeout = readTimeout;
     }
 
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public Map<String, Object> getExtraProperties() {
         return extraProperties;
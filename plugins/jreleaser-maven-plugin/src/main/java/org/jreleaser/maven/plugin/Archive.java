@@ -31,6 +31,7 @@ public class Archive extends AbstractAssembler {
 
     private String archiveName;
     private Boolean attachPlatform;
+    private int compressionThreads;
     private Distribution.DistributionType distributionType;
 
     public Distribution.DistributionType getDistributionType() {
@@ -46,6 +47,7 @@ public class Archive extends AbstractAssembler {
         this.archiveName = archive.archiveName;
         this.distributionType = archive.distributionType;
         this.attachPlatform = archive.attachPlatform;
+        this.compressionThreads = archive.compressionThreads;
         setFormats(archive.formats);
     }
 
@@ -69,6 +71,14 @@ public class Archive extends AbstractAssembler {
         this.attachPlatform = attachPlatform;
     }
 
+    public int getCompressionThreads() {
+        return compressionThreads;
+    }
+
+    public void setCompressionThreads(int compressionThreads) {
+        this.compressionThreads = compressionThreads;
+    }
+
     public Set<Format> getFormats() {
         return formats;
     }
@@ -44,6 +44,8 @@ public class Jlink extends AbstractJavaAssembler {
     private String imageNameTransform;
     private String moduleName;
     private Boolean copyJars;
+    private int parallelism;
+    private int compressionThreads;
 
     void setAll(Jlink jlink) {
         super.setAll(jlink);
@@ -51,6 +53,8 @@ public class Jlink extends AbstractJavaAssembler {
         this.imageNameTransform = jlink.imageNameTransform;
         this.moduleName = jlink.moduleName;
         this.copyJars = jlink.copyJars;
+        this.parallelism = jlink.parallelism;
+        this.compressionThreads = jlink.compressionThreads;
         setJava(jlink.java);
         setJdeps(jlink.jdeps);
         setJdk(jlink.jdk);
@@ -252,4 +256,20 @@ public class Jlink extends AbstractJavaAssembler {
     public boolean isCopyJarsSet() {
         return copyJars != null;
     }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getCompressionThreads() {
+        return compressionThreads;
+    }
+
+    public void setCompressionThreads(int compressionThreads) {
+        this.compressionThreads = compressionThreads;
+    }
 }
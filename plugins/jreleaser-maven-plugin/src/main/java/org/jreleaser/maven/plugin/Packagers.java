@@ -31,8 +31,10 @@ public class Packagers {
     private final Sdkman sdkman = new Sdkman();
     private final Snap snap = new Snap();
     private final Spec spec = new Spec();
+    private int parallelism;
 
     void setAll(Packagers packagers) {
+        this.parallelism = packagers.parallelism;
         setBrew(packagers.brew);
         setChocolatey(packagers.chocolatey);
         setDocker(packagers.docker);
@@ -44,6 +46,14 @@ public class Packagers {
         setSpec(packagers.spec);
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public Brew getBrew() {
         return brew;
     }
@@ -36,6 +36,8 @@ public class S3 extends AbstractUploader {
     private String accessKeyId;
     private String secretKey;
     private String sessionToken;
+    private int partSize;
+    private int partThreads;
 
     public S3() {
         super(TYPE);
@@ -51,6 +53,8 @@ public class S3 extends AbstractUploader {
         this.accessKeyId = s3.accessKeyId;
         this.secretKey = s3.secretKey;
         this.sessionToken = s3.sessionToken;
+        this.partSize = s3.partSize;
+        this.partThreads = s3.partThreads;
         setHeaders(s3.headers);
     }
 
@@ -118,6 +122,22 @@ public class S3 extends AbstractUploader {
         this.endpoint = endpoint;
     }
 
+    public int getPartSize() {
+        return partSize;
+    }
+
+    public void setPartSize(int partSize) {
+        this.partSize = partSize;
+    }
+
+    public int getPartThreads() {
+        return partThreads;
+    }
+
+    public void setPartThreads(int partThreads) {
+        this.partThreads = partThreads;
+    }
+
     public Map<String, String> getHeaders() {
         return headers;
     }
@@ -41,6 +41,7 @@ public class Signing implements Activatable {
     private String homeDir;
     private String publicKeyring;
     private Boolean defaultKeyring;
+    private int parallelism;
 
     void setAll(Signing signing) {
         this.active = signing.active;
@@ -56,6 +57,7 @@ public class Signing implements Activatable {
         this.homeDir = signing.homeDir;
         this.publicKeyring = signing.publicKeyring;
         this.defaultKeyring = signing.defaultKeyring;
+        this.parallelism = signing.parallelism;
         setArgs(signing.args);
     }
 
@@ -198,6 +200,14 @@ public class Signing implements Activatable {
         this.defaultKeyring = defaultKeyring;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public List<String> getArgs() {
         return args;
     }
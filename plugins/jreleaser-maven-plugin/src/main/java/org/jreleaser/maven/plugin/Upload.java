@@ -29,9 +29,15 @@ public class Upload implements EnabledAware {
     private final Map<String, Http> http = new LinkedHashMap<>();
     private final Map<String, S3> s3 = new LinkedHashMap<>();
     private Boolean enabled;
+    private int parallelism;
+    private int maxRetries;
+    private boolean incremental;
 
     void setAll(Upload upload) {
         this.enabled = upload.enabled;
+        this.parallelism = upload.parallelism;
+        this.maxRetries = upload.maxRetries;
+        this.incremental = upload.incremental;
         setArtifactory(upload.artifactory);
         setHttp(upload.http);
         setS3(upload.s3);
@@ -52,6 +58,30 @@ public class Upload implements EnabledAware {
         return enabled != null;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
     public Map<String, Artifactory> getArtifactory() {
         return artifactory;
     }
@@ -45,4 +45,8 @@ public interface Uploader extends Activatable, TimeoutAware, ExtraProperties {
     void setSignatures(Boolean signatures);
 
     boolean isSignaturesSet();
+
+    int getParallelism();
+
+    void setParallelism(int parallelism);
 }
@@ -316,6 +316,7 @@ public final class JReleaserModelConverter {
         s.setMilestone(convertMilestone(service.getMilestone()));
         s.setConnectTimeout(service.getConnectTimeout());
         s.setReadTimeout(service.getReadTimeout());
+        s.setUploadParallelism(service.getUploadParallelism());
         if (service.isArtifactsSet()) s.setArtifacts(service.isArtifacts());
         if (service.isFilesSet()) s.setFiles(service.isFiles());
         if (service.isChecksumsSet()) s.setChecksums(service.isChecksums());
@@ -419,6 +420,9 @@ public final class JReleaserModelConverter {
     private static org.jreleaser.model.Upload convertUpload(Upload upload) {
         org.jreleaser.model.Upload u = new org.jreleaser.model.Upload();
         if (upload.isEnabledSet()) u.setEnabled(upload.isEnabled());
+        u.setParallelism(upload.getParallelism());
+        u.setMaxRetries(upload.getMaxRetries());
+        u.setIncremental(upload.isIncremental());
         u.setArtifactory(convertArtifactory(upload.getArtifactory()));
         u.setHttp(convertHttp(upload.getHttp()));
         u.setS3(convertS3(upload.getS3()));
@@ -471,6 +475,7 @@ public final class JReleaserModelConverter {
         into.setExtraProperties(from.getExtraProperties());
         into.setConnectTimeout(from.getConnectTimeout());
         into.setReadTimeout(from.getReadTimeout());
+        into.setParallelism(from.getParallelism());
         if (from.isArtifactsSet()) into.setArtifacts(from.isArtifacts());
         if (from.isFilesSet()) into.setFiles(from.isFiles());
         if (from.isSignaturesSet()) into.setSignatures(from.isSignatures());
@@ -523,6 +528,8 @@ public final class JReleaserModelConverter {
         s.setSecretKey(tr(s3.getSecretKey()));
         s.setSessionToken(tr(s3.getSessionToken()));
         s.setEndpoint(tr(s3.getEndpoint()));
+        s.setPartSize(s3.getPartSize());
+        s.setPartThreads(s3.getPartThreads());
         s.setPath(tr(s3.getPath()));
         s.setDownloadUrl(tr(s3.getDownloadUrl()));
         s.setHeaders(s3.getHeaders());
@@ -531,6 +538,7 @@ public final class JReleaserModelConverter {
 
     private static org.jreleaser.model.Packagers convertPackagers(Packagers packagers) {
         org.jreleaser.model.Packagers p = new org.jreleaser.model.Packagers();
+        p.setParallelism(packagers.getParallelism());
         if (packagers.getBrew().isSet()) p.setBrew(convertBrew(packagers.getBrew()));
         if (packagers.getChocolatey().isSet()) p.setChocolatey(convertChocolatey(packagers.getChocolatey()));
         if (packagers.getDocker().isSet()) p.setDocker(convertDocker(packagers.getDocker()));
@@ -786,6 +794,7 @@ public final class JReleaserModelConverter {
         a.setArchiveName(tr(archive.getArchiveName()));
         a.setDistributionType(tr(archive.getDistributionType().name()));
         if (archive.isAttachPlatformSet()) a.setAttachPlatform(archive.isAttachPlatform());
+        a.setCompressionThreads(archive.getCompressionThreads());
         a.setFormats(archive.getFormats().stream()
             .map(Object::toString)
             .map(org.jreleaser.model.Archive.Format::valueOf)
@@ -840,6 +849,8 @@ public final class JReleaserModelConverter {
         a.setImageNameTransform(tr(jlink.getImageNameTransform()));
         a.setModuleName(tr(jlink.getModuleName()));
         if (jlink.isCopyJarsSet()) a.setCopyJars(jlink.isCopyJars());
+        a.setParallelism(jlink.getParallelism());
+        a.setCompressionThreads(jlink.getCompressionThreads());
         a.setJars(convertGlobs(jlink.getJars()));
         a.setFiles(convertGlobs(jlink.getFiles()));
         a.setFileSets(convertFileSets(jlink.getFileSets()));
@@ -890,6 +901,7 @@ public final class JReleaserModelConverter {
         s.setIndividual(checksum.isIndividual());
         s.setAlgorithms(checksum.getAlgorithms());
         if (checksum.isFilesSet()) s.setFiles(checksum.isFiles());
+        s.setParallelism(checksum.getParallelism());
         return s;
     }
 
@@ -910,6 +922,7 @@ public final class JReleaserModelConverter {
         s.setHomeDir(tr(signing.getHomeDir()));
         s.setPublicKeyring(tr(signing.getPublicKeyring()));
         s.setArgs(tr(signing.getArgs()));
+        s.setParallelism(signing.getParallelism());
         return s;
     }
 
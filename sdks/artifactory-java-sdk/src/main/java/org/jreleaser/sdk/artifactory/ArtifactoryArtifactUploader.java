@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.artifactory;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.Artifactory;
@@ -25,14 +24,15 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.uploader.spi.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.FileUploadBody;
 import org.jreleaser.util.Algorithm;
-import org.jreleaser.util.ChecksumUtils;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -62,53 +62,72 @@ public class ArtifactoryArtifactUploader extends AbstractArtifactUploader<Artifa
     }
 
     @Override
-    public void upload(String name) throws UploadException {
-        List<Artifact> artifacts = collectArtifacts();
-        if (artifacts.isEmpty()) {
-            context.getLogger().info(RB.$("artifacts.no.match"));
+    public boolean isUpToDate(String name, Artifact artifact) throws UploadException {
+        if (context.isDryrun()) return false;
+
+        Path path = artifact.getEffectivePath(context);
+        try {
+            Map<String, String> remote = ClientUtils.head(context.getLogger(),
+                uploader.getResolvedUploadUrl(context, artifact),
+                uploader.getConnectTimeout(),
+                uploader.getReadTimeout(),
+                resolveAuthorizationHeaders());
+
+            String sha256 = resolveHashes(artifact, Collections.singletonList(Algorithm.SHA_256)).get(Algorithm.SHA_256);
+            return hashMatches(remote.get("x-checksum-sha256"), Collections.singletonList(sha256));
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+            throw new UploadException(RB.$("ERROR_unexpected_upload",
+                context.getBasedir().relativize(path)), e);
+        }
+    }
+
+    @Override
+    public void upload(String name, Artifact artifact) throws UploadException {
+        Path path = artifact.getEffectivePath(context);
+        if (!context.isDryrun()) {
+            try {
+                FileUploadBody data = ClientUtils.toUploadBody(path);
+
+                Map<String, String> headers = resolveAuthorizationHeaders();
+
+                Map<Algorithm, String> checksums = resolveHashes(artifact,
+                    Arrays.asList(Algorithm.SHA_1, Algorithm.SHA_256, Algorithm.MD5));
+                headers.put("X-Checksum-Deploy", "false");
+                headers.put("X-Checksum-Sha1", checksums.get(Algorithm.SHA_1));
+                headers.put("X-Checksum-Sha256", checksums.get(Algorithm.SHA_256));
+                headers.put("X-Checksum", checksums.get(Algorithm.MD5));
+
+                ClientUtils.putFile(context.getLogger(),
+                    uploader.getResolvedUploadUrl(context, artifact),
+                    uploader.getConnectTimeout(),
+                    uploader.getReadTimeout(),
+                    data,
+                    headers);
+            } catch (IOException e) {
+                context.getLogger().trace(e);
+                throw new UploadException(RB.$("ERROR_unexpected_upload",
+                    context.getBasedir().relativize(path)), e);
+            }
         }
+    }
 
+    private Map<String, String> resolveAuthorizationHeaders() {
         String username = uploader.getResolvedUsername();
         String password = uploader.getResolvedPassword();
 
-        for (Artifact artifact : artifacts) {
-            Path path = artifact.getEffectivePath(context);
-            context.getLogger().info(" - {}", path.getFileName());
-
-            if (!context.isDryrun()) {
-                try {
-                    FormData data = ClientUtils.toFormData(path);
-
-                    Map<String, String> headers = new LinkedHashMap<>();
-                    switch (uploader.resolveAuthorization()) {
-                        case BASIC:
-                            String auth = username + ":" + password;
-                            byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes());
-                            auth = new String(encodedAuth);
-                            headers.put("Authorization", "Basic " + auth);
-                            break;
-                        case BEARER:
-                            headers.put("Authorization", "Bearer " + password);
-                            break;
-                    }
-
-                    headers.put("X-Checksum-Deploy", "false");
-                    headers.put("X-Checksum-Sha1", ChecksumUtils.checksum(Algorithm.SHA_1, data.getData()));
-                    headers.put("X-Checksum-Sha256", ChecksumUtils.checksum(Algorithm.SHA_256, data.getData()));
-                    headers.put("X-Checksum", ChecksumUtils.checksum(Algorithm.MD5, data.getData()));
-
-                    ClientUtils.putFile(context.getLogger(),
-                        uploader.getResolvedUploadUrl(context, artifact),
-                        uploader.getConnectTimeout(),
-                        uploader.getReadTimeout(),
-                        data,
-                        headers);
-                } catch (IOException e) {
-                    context.getLogger().trace(e);
-                    throw new UploadException(RB.$("ERROR_unexpected_upload",
-                        context.getBasedir().relativize(path)), e);
-                }
-            }
+        Map<String, String> headers = new LinkedHashMap<>();
+        switch (uploader.resolveAuthorization()) {
+            case BASIC:
+                String auth = username + ":" + password;
+                byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes());
+                auth = new String(encodedAuth);
+                headers.put("Authorization", "Basic " + auth);
+                break;
+            case BEARER:
+                headers.put("Authorization", "Bearer " + password);
+                break;
         }
+        return headers;
     }
 }
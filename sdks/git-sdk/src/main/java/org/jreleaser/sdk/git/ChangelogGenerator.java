@@ -39,7 +39,9 @@ import org.jreleaser.util.Version;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -47,6 +49,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -60,6 +63,7 @@ import static org.jreleaser.util.Constants.KEY_CHANGELOG_CHANGES;
 import static org.jreleaser.util.Constants.KEY_CHANGELOG_CONTRIBUTORS;
 import static org.jreleaser.util.MustacheUtils.applyTemplate;
 import static org.jreleaser.util.MustacheUtils.passThrough;
+import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 import static org.jreleaser.util.StringUtils.normalizeRegexPattern;
 import static org.jreleaser.util.StringUtils.stripMargin;
@@ -225,6 +229,7 @@ public class ChangelogGenerator {
         String effectiveTagName = gitService.getEffectiveTagName(context.getModel());
         String tagName = gitService.getConfiguredTagName();
         String tagPattern = tagName.replaceAll("\\{\\{.*}}", "\\.\\*");
+        Pattern tagRegex = Pattern.compile(tagPattern);
         Pattern vp = Pattern.compile(tagName.replaceAll("\\{\\{.*}}", "\\(\\.\\*\\)"));
         if (!tagName.contains("{{")) {
             vp = Pattern.compile("(.*)");
@@ -232,11 +237,12 @@ public class ChangelogGenerator {
         Pattern versionPattern = vp;
 
         unparseableTags.clear();
-        tags.sort((tag1, tag2) -> {
-            Comparable v1 = version(context, tag1, versionPattern);
-            Comparable v2 = version(context, tag2, versionPattern);
-            return v2.compareTo(v1);
-        });
+        // parse every tag once, sorting and the previous tag lookup reuse these keys
+        Map<Ref, Comparable> versions = new IdentityHashMap<>();
+        for (Ref ref : tags) {
+            versions.put(ref, version(context, ref, versionPattern));
+        }
+        tags.sort((tag1, tag2) -> versions.get(tag2).compareTo(versions.get(tag1)));
 
         ObjectId head = git.getRepository().resolve(Constants.HEAD);
 
@@ -269,7 +275,7 @@ public class ChangelogGenerator {
 
                         tag = tags.stream()
                             .filter(ref -> !extractTagName(ref).equals(effectiveTagName))
-                            .filter(ref -> extractTagName(ref).matches(tagPattern))
+                            .filter(ref -> tagRegex.matcher(extractTagName(ref)).matches())
                             .findFirst();
                     }
                 }
@@ -294,7 +300,7 @@ public class ChangelogGenerator {
                 context.getLogger().debug(RB.$("changelog.generator.lookup.matching.tag"), tagPattern, effectiveTagName);
                 tag = tags.stream()
                     .filter(ref -> !extractTagName(ref).equals(effectiveTagName))
-                    .filter(ref -> extractTagName(ref).matches(tagPattern))
+                    .filter(ref -> tagRegex.matcher(extractTagName(ref)).matches())
                     .findFirst();
             }
 
@@ -308,12 +314,12 @@ public class ChangelogGenerator {
         }
 
         // tag: somewhere in the middle
-        Comparable currentVersion = version(context, tag.get(), versionPattern);
+        Comparable currentVersion = versions.get(tag.get());
         if (!previousTag.isPresent()) {
             context.getLogger().debug(RB.$("changelog.generator.lookup.before.tag"), effectiveTagName, tagPattern);
             previousTag = tags.stream()
-                .filter(ref -> extractTagName(ref).matches(tagPattern))
-                .filter(ref -> lessThan(version(context, ref, versionPattern), currentVersion))
+                .filter(ref -> tagRegex.matcher(extractTagName(ref)).matches())
+                .filter(ref -> lessThan(versions.get(ref), currentVersion))
                 .findFirst();
         }
 
@@ -340,6 +346,7 @@ public class ChangelogGenerator {
                                    String lineSeparator) {
         Set<Contributor> contributors = new LinkedHashSet<>();
         Map<String, List<Commit>> categories = new LinkedHashMap<>();
+        List<LabelMatcher> labelers = compileLabelers(changelog.getLabelers());
 
         StreamSupport.stream(commits.spliterator(), false)
             .sorted(revCommitComparator)
@@ -354,7 +361,7 @@ public class ChangelogGenerator {
                     .filter(author -> !changelog.getHide().containsContributor(author.name))
                     .forEach(author -> contributors.add(new Contributor(author)));
             })
-            .peek(c -> applyLabels(c, changelog.getLabelers()))
+            .peek(c -> applyLabels(c, labelers))
             .filter(c -> checkLabels(c, changelog))
             .forEach(commit -> categories
                 .computeIfAbsent(categorize(commit, changelog), k -> new ArrayList<>())
@@ -426,13 +433,15 @@ public class ChangelogGenerator {
         List<String> list = new ArrayList<>();
         String format = changelog.getContributors().getFormat();
 
+        if (isNotBlank(format) && (format.contains("AsLink") || format.contains("Username"))) {
+            // look up every email once, the first name seen is used as fallback for the search
+            Map<String, String> emails = new LinkedHashMap<>();
+            contributors.forEach(contributor -> emails.putIfAbsent(contributor.email, contributor.name));
+            Map<String, User> users = new ContributorResolver(context).resolve(emails);
+            contributors.forEach(contributor -> contributor.setUser(users.get(contributor.email)));
+        }
+
         Map<String, List<Contributor>> grouped = contributors.stream()
-            .peek(contributor -> {
-                if (isNotBlank(format) && (format.contains("AsLink") || format.contains("Username"))) {
-                    context.getReleaser().findUser(contributor.email, contributor.name)
-                        .ifPresent(contributor::setUser);
-                }
-            })
             .collect(groupingBy(Contributor::getName));
 
         String contributorFormat = isNotBlank(format) ? format : "{{contributorName}}";
@@ -483,35 +492,36 @@ public class ChangelogGenerator {
         return UNCATEGORIZED;
     }
 
-    private void applyLabels(Commit commit, Set<Changelog.Labeler> labelers) {
-        for (Changelog.Labeler labeler : labelers) {
-            if (isNotBlank(labeler.getTitle())) {
-                if (labeler.getTitle().startsWith(REGEX_PREFIX)) {
-                    String regex = labeler.getTitle().substring(REGEX_PREFIX.length());
-                    if (commit.title.matches(normalizeRegexPattern(regex))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                } else {
-                    if (commit.title.contains(labeler.getTitle()) || commit.title.matches(toSafeRegexPattern(labeler.getTitle()))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                }
-            }
-            if (isNotBlank(labeler.getBody())) {
-                if (labeler.getBody().startsWith(REGEX_PREFIX)) {
-                    String regex = labeler.getBody().substring(REGEX_PREFIX.length());
-                    if (commit.body.matches(normalizeRegexPattern(regex))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                } else {
-                    if (commit.body.contains(labeler.getBody()) || commit.body.matches(toSafeRegexPattern(labeler.getBody()))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                }
+    private void applyLabels(Commit commit, List<LabelMatcher> labelers) {
+        for (LabelMatcher labeler : labelers) {
+            if (labeler.matches(commit)) {
+                commit.labels.add(labeler.label);
             }
         }
     }
 
+    private List<LabelMatcher> compileLabelers(Set<Changelog.Labeler> labelers) {
+        List<LabelMatcher> matchers = new ArrayList<>();
+        for (Changelog.Labeler labeler : labelers) {
+            matchers.add(new LabelMatcher(labeler.getLabel(),
+                compileLabelerPattern(labeler.getTitle()),
+                compileLabelerPattern(labeler.getBody())));
+        }
+        return Collections.unmodifiableList(matchers);
+    }
+
+    private static Predicate<String> compileLabelerPattern(String pattern) {
+        if (isBlank(pattern)) return null;
+
+        if (pattern.startsWith(REGEX_PREFIX)) {
+            Pattern regex = Pattern.compile(normalizeRegexPattern(pattern.substring(REGEX_PREFIX.length())));
+            return text -> regex.matcher(text).matches();
+        }
+
+        Pattern regex = Pattern.compile(toSafeRegexPattern(pattern));
+        return text -> text.contains(pattern) || regex.matcher(text).matches();
+    }
+
     private boolean checkLabels(Commit commit, Changelog changelog) {
         if (!changelog.getIncludeLabels().isEmpty()) {
             return CollectionUtils.intersects(changelog.getIncludeLabels(), commit.labels);
@@ -532,7 +542,25 @@ public class ChangelogGenerator {
         return new ChangelogGenerator().createChangelog(context);
     }
 
+    private static class LabelMatcher {
+        private final String label;
+        private final Predicate<String> title;
+        private final Predicate<String> body;
+
+        private LabelMatcher(String label, Predicate<String> title, Predicate<String> body) {
+            this.label = label;
+            this.title = title;
+            this.body = body;
+        }
+
+        private boolean matches(Commit commit) {
+            return (null != title && title.test(commit.title)) ||
+                (null != body && body.test(commit.body));
+        }
+    }
+
     private static class Commit {
+        private static final String CO_AUTHORED_BY = "o-authored-by:";
         private static final Pattern CO_AUTHORED_BY_PATTERN = Pattern.compile("^[Cc]o-authored-by:\\s+(.*)\\s+<(.*)>.*$");
         private final Set<String> labels = new LinkedHashSet<>();
         private final Set<Author> commiters = new LinkedHashSet<>();
@@ -574,10 +602,14 @@ public class ChangelogGenerator {
             c.author = new Author(rc.getAuthorIdent().getName(), rc.getAuthorIdent().getEmailAddress());
             c.addContributor(rc.getCommitterIdent().getName(), rc.getCommitterIdent().getEmailAddress());
             c.time = rc.getCommitTime();
-            for (String line : lines) {
-                Matcher m = CO_AUTHORED_BY_PATTERN.matcher(line);
-                if (m.matches()) {
-                    c.addContributor(m.group(1), m.group(2));
+            // most commits have no trailers, skip the per line match for them
+            if (c.body.contains(CO_AUTHORED_BY)) {
+                for (String line : lines) {
+                    if (!line.startsWith(CO_AUTHORED_BY, 1)) continue;
+                    Matcher m = CO_AUTHORED_BY_PATTERN.matcher(line);
+                    if (m.matches()) {
+                        c.addContributor(m.group(1), m.group(2));
+                    }
                 }
             }
             return c;
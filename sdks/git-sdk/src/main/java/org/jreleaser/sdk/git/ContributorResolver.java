@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.releaser.spi.User;
+import org.jreleaser.util.ConcurrencyUtils;
+import org.jreleaser.util.PropertiesFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+
+/**
+ * Resolves contributor emails to users of the configured git service. Every email is looked
+ * up once, lookups run concurrently, and resolved users are cached on disk for later runs.
+ *
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+class ContributorResolver {
+    // forge search APIs are heavily rate limited, a few lookups in flight hide latency only
+    private static final int PARALLELISM = 4;
+    private static final String SEPARATOR = " ";
+
+    private final JReleaserContext context;
+    private final Path file;
+    private final String prefix;
+
+    ContributorResolver(JReleaserContext context) {
+        this.context = context;
+        this.file = context.getOutputDirectory()
+            .resolve("release")
+            .resolve("contributors.properties");
+        this.prefix = context.getModel().getRelease().getGitService().getServiceName() + ".";
+    }
+
+    /**
+     * Resolves users for the given contributors, keyed by email with their name as value.
+     * Emails without a matching user are absent from the result.
+     */
+    Map<String, User> resolve(Map<String, String> contributors) {
+        Properties cache = load();
+
+        Map<String, User> users = new LinkedHashMap<>();
+        List<String> pending = new ArrayList<>();
+        contributors.forEach((email, name) -> {
+            String entry = cache.getProperty(prefix + email);
+            if (null != entry && entry.contains(SEPARATOR)) {
+                users.put(email, new User(entry.substring(0, entry.indexOf(SEPARATOR)), email,
+                    entry.substring(entry.indexOf(SEPARATOR) + 1)));
+            } else {
+                pending.add(email);
+            }
+        });
+        if (pending.isEmpty()) return users;
+
+        List<Callable<Optional<User>>> tasks = new ArrayList<>();
+        for (String email : pending) {
+            tasks.add(() -> context.getReleaser().findUser(email, contributors.get(email)));
+        }
+        List<Optional<User>> found = ConcurrencyUtils.invokeAll("contributors", PARALLELISM, tasks);
+
+        boolean updated = false;
+        for (int i = 0; i < pending.size(); i++) {
+            if (found.get(i).isPresent()) {
+                User user = found.get(i).get();
+                users.put(pending.get(i), user);
+                cache.setProperty(prefix + pending.get(i), user.getUsername() + SEPARATOR + user.getUrl());
+                updated = true;
+            }
+        }
+        // misses are not cached, they may be caused by rate limits
+        if (updated) store(cache);
+
+        return users;
+    }
+
+    private Properties load() {
+        try {
+            return PropertiesFile.load(file);
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+            return new Properties();
+        }
+    }
+
+    private void store(Properties cache) {
+        if (context.isDryrun()) return;
+
+        try {
+            PropertiesFile.store(file, cache);
+        } catch (IOException e) {
+            // the cache is an optimization only
+            context.getLogger().warn(RB.$("changelog.generator.contributors.cache"), context.relativizeToBasedir(file));
+            context.getLogger().trace(e);
+        }
+    }
+}
@@ -22,17 +22,16 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import feign.form.FormData;
 import feign.form.FormEncoder;
-import feign.httpclient.ApacheHttpClient;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
-import org.apache.tika.Tika;
-import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.releaser.spi.User;
+import org.jreleaser.model.uploader.spi.UploadException;
+import org.jreleaser.sdk.commons.AssetTasks;
 import org.jreleaser.sdk.commons.ClientUtils;
 import org.jreleaser.sdk.commons.RestAPIException;
+import org.jreleaser.sdk.commons.UploadJournal;
 import org.jreleaser.sdk.gitea.api.GiteaAPI;
 import org.jreleaser.sdk.gitea.api.GtMilestone;
 import org.jreleaser.sdk.gitea.api.GtOrganization;
@@ -44,8 +43,8 @@ import org.jreleaser.util.CollectionUtils;
 import org.jreleaser.util.JReleaserLogger;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -59,10 +58,13 @@ import static org.jreleaser.util.StringUtils.requireNonBlank;
  */
 class Gitea {
     private static final String API_V1 = "/api/v1";
-    private final Tika tika = new Tika();
 
     private final JReleaserLogger logger;
     private final GiteaAPI api;
+    private final String endpoint;
+    private final String token;
+    private final int connectTimeout;
+    private final int readTimeout;
 
     Gitea(JReleaserLogger logger,
           String endpoint,
@@ -87,8 +89,11 @@ class Gitea {
             .configure(SerializationFeature.INDENT_OUTPUT, true);
 
         this.logger = logger;
+        this.endpoint = endpoint;
+        this.token = token;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
         this.api = ClientUtils.builder(logger, connectTimeout, readTimeout)
-            .client(new ApacheHttpClient())
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new JacksonDecoder(objectMapper))
             .requestInterceptor(template -> template.header("Authorization", String.format("token %s", token)))
@@ -209,21 +214,20 @@ class Gitea {
         api.updateRelease(release, owner, repo, id);
     }
 
-    void uploadAssets(String owner, String repo, GtRelease release, List<Path> assets) throws IOException {
-        for (Path asset : assets) {
-            if (0 == asset.toFile().length() || !Files.exists(asset)) {
-                // do not upload empty or non existent files
-                continue;
-            }
-
-            logger.info(" " + RB.$("git.upload.asset"), asset.getFileName().toString());
-            try {
-                api.uploadAsset(owner, repo, release.getId(), toFormData(asset));
-            } catch (RestAPIException e) {
-                logger.error(" " + RB.$("git.upload.asset.failure"), asset.getFileName());
-                throw e;
-            }
-        }
+    void uploadAssets(String owner, String repo, GtRelease release, List<Path> assets, int parallelism, UploadJournal journal) throws IOException {
+        // skips empty, non existent and already uploaded files
+        List<Path> files = journal.pending(assets);
+
+        AssetTasks.run(logger, parallelism, files,
+            asset -> asset.getFileName().toString(),
+            asset -> {
+                logger.info(" " + RB.$("git.upload.asset"), asset.getFileName().toString());
+                uploadAsset(owner, repo, release.getId(), asset);
+                journal.record(asset.getFileName().toString());
+                return asset;
+            },
+            AssetTasks::isTransient,
+            "git.upload.asset.failure");
     }
 
     Optional<User> findUser(String email, String name, String host) throws RestAPIException {
@@ -238,11 +242,21 @@ class Gitea {
         return Optional.empty();
     }
 
-    private FormData toFormData(Path asset) throws IOException {
-        return FormData.builder()
-            .fileName(asset.getFileName().toString())
-            .contentType(MediaType.parse(tika.detect(asset)).toString())
-            .data(Files.readAllBytes(asset))
-            .build();
+    private void uploadAsset(String owner, String repo, Integer id, Path asset) throws IOException {
+        // streamed outside of Feign as it would buffer the whole multipart body
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Authorization", String.format("token %s", token));
+
+        try {
+            ClientUtils.postFile(logger,
+                endpoint + "/repos/" + ClientUtils.encodePathSegment(owner) + "/" +
+                    ClientUtils.encodePathSegment(repo) + "/releases/" + id + "/assets",
+                connectTimeout,
+                readTimeout,
+                ClientUtils.toMultipartBody("attachment", asset),
+                headers);
+        } catch (UploadException e) {
+            throw new IOException(e.getMessage(), e);
+        }
     }
 }
@@ -25,6 +25,7 @@ import org.jreleaser.model.releaser.spi.ReleaseException;
 import org.jreleaser.model.releaser.spi.Repository;
 import org.jreleaser.model.releaser.spi.User;
 import org.jreleaser.sdk.commons.RestAPIException;
+import org.jreleaser.sdk.commons.UploadJournal;
 import org.jreleaser.sdk.git.GitSdk;
 import org.jreleaser.sdk.git.ReleaseUtils;
 import org.jreleaser.sdk.gitea.api.GtMilestone;
@@ -107,7 +108,8 @@ public class GiteaReleaser extends AbstractReleaser {
                         }
 
                         if (gitea.getUpdateSections().contains(UpdateSection.ASSETS)) {
-                            api.uploadAssets(gitea.getOwner(), gitea.getName(), release, assets);
+                            api.uploadAssets(gitea.getOwner(), gitea.getName(), release, assets, gitea.getUploadParallelism(),
+                                UploadJournal.of(context, gitea.getServiceName(), String.valueOf(release.getId())));
                         }
                     }
                 } else {
@@ -225,7 +227,8 @@ public class GiteaReleaser extends AbstractReleaser {
         release.setBody(changelog);
 
         release = api.createRelease(gitea.getOwner(), gitea.getName(), release);
-        api.uploadAssets(gitea.getOwner(), gitea.getName(), release, assets);
+        api.uploadAssets(gitea.getOwner(), gitea.getName(), release, assets, gitea.getUploadParallelism(),
+            UploadJournal.of(context, gitea.getServiceName(), String.valueOf(release.getId())));
 
         if (gitea.getMilestone().isClose() && !context.getModel().getProject().isSnapshot()) {
             Optional<GtMilestone> milestone = api.findMilestoneByName(
@@ -21,6 +21,8 @@ import org.apache.tika.Tika;
 import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.JReleaserVersion;
+import org.jreleaser.sdk.commons.AssetTasks;
+import org.jreleaser.sdk.commons.UploadJournal;
 import org.jreleaser.util.JReleaserLogger;
 import org.kohsuke.github.GHAsset;
 import org.kohsuke.github.GHDiscussion;
@@ -35,6 +37,7 @@ import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GHTeam;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.HttpException;
 import org.kohsuke.github.HttpConnector;
 import org.kohsuke.github.PagedIterable;
 import org.kohsuke.github.extras.ImpatientHttpConnector;
@@ -42,10 +45,13 @@ import org.kohsuke.github.extras.ImpatientHttpConnector;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import static org.jreleaser.sdk.git.GitSdk.REFS_TAGS;
@@ -145,19 +151,65 @@ class Github {
             .createRelease(tagName);
     }
 
-    void uploadAssets(GHRelease release, List<Path> assets) throws IOException {
-        for (Path asset : assets) {
-            if (0 == asset.toFile().length() || !Files.exists(asset)) {
-                // do not upload empty or non existent files
-                continue;
+    void uploadAssets(GHRelease release, List<Path> assets, int parallelism, UploadJournal journal) throws IOException {
+        // skips empty, non existent and already uploaded files
+        List<Path> files = journal.pending(assets);
+        if (files.isEmpty()) return;
+
+        // assets of the same name cannot be uploaded twice, these are leftovers or stale
+        Set<String> names = files.stream()
+            .map(asset -> asset.getFileName().toString())
+            .collect(Collectors.toSet());
+        Map<String, GHAsset> existing = new ConcurrentHashMap<>();
+        for (GHAsset ghasset : release.listAssets()) {
+            if (names.contains(ghasset.getName())) {
+                existing.put(ghasset.getName(), ghasset);
             }
+        }
 
-            logger.info(" " + RB.$("git.upload.asset"), asset.getFileName().toString());
-            GHAsset ghasset = release.uploadAsset(asset.toFile(), MediaType.parse(tika.detect(asset)).toString());
-            if (!"uploaded".equalsIgnoreCase(ghasset.getState())) {
-                logger.warn(" " + RB.$("git.upload.asset.failure"), asset.getFileName());
-            }
+        Set<String> attempted = ConcurrentHashMap.newKeySet();
+        AssetTasks.run(logger, parallelism, files,
+            asset -> asset.getFileName().toString(),
+            asset -> {
+                String name = asset.getFileName().toString();
+                if (!attempted.add(name)) {
+                    // a failed upload may leave a starter asset behind
+                    for (GHAsset ghasset : release.listAssets()) {
+                        if (name.equals(ghasset.getName())) {
+                            existing.put(name, ghasset);
+                        }
+                    }
+                }
+
+                // replace stale assets only once their new version is about to be uploaded
+                GHAsset stale = existing.remove(name);
+                if (null != stale) {
+                    logger.info(" " + RB.$("git.upload.asset.replace"), name);
+                    stale.delete();
+                }
+
+                logger.info(" " + RB.$("git.upload.asset"), name);
+                GHAsset ghasset = release.uploadAsset(asset.toFile(), MediaType.parse(tika.detect(asset)).toString());
+                if (!"uploaded".equalsIgnoreCase(ghasset.getState())) {
+                    logger.warn(" " + RB.$("git.upload.asset.failure"), asset.getFileName());
+                } else {
+                    journal.record(asset.getFileName().toString());
+                }
+                return ghasset;
+            },
+            Github::isTransient,
+            "git.upload.asset.failure");
+    }
+
+    private static boolean isTransient(Throwable throwable) {
+        if (throwable instanceof HttpException) {
+            HttpException e = (HttpException) throwable;
+            int status = e.getResponseCode();
+            // secondary rate limits are reported as 403
+            return status >= 500 || status == 429 ||
+                (status == 403 && String.valueOf(e.getMessage()).contains("rate limit"));
         }
+        return AssetTasks.isTransient(throwable);
     }
 
     Optional<GHDiscussion> findDiscussion(String organization, String team, String title) throws IOException {
@@ -25,6 +25,7 @@ import org.jreleaser.model.releaser.spi.ReleaseException;
 import org.jreleaser.model.releaser.spi.Repository;
 import org.jreleaser.model.releaser.spi.User;
 import org.jreleaser.sdk.commons.RestAPIException;
+import org.jreleaser.sdk.commons.UploadJournal;
 import org.jreleaser.sdk.git.GitSdk;
 import org.jreleaser.sdk.git.ReleaseUtils;
 import org.jreleaser.sdk.github.api.GhRelease;
@@ -107,7 +108,8 @@ public class GithubReleaser extends AbstractReleaser {
                         if (update) updater.update();
 
                         if (github.getUpdateSections().contains(UpdateSection.ASSETS)) {
-                            api.uploadAssets(release, assets);
+                            api.uploadAssets(release, assets, github.getUploadParallelism(),
+                                UploadJournal.of(context, github.getServiceName(), String.valueOf(release.getId())));
                         }
                         linkDiscussion(tagName, release);
                     }
@@ -207,7 +209,8 @@ public class GithubReleaser extends AbstractReleaser {
             .prerelease(github.getPrerelease().isEnabled())
             .body(changelog)
             .create();
-        api.uploadAssets(release, assets);
+        api.uploadAssets(release, assets, github.getUploadParallelism(),
+            UploadJournal.of(context, github.getServiceName(), String.valueOf(release.getId())));
 
         if (github.getMilestone().isClose() && !context.getModel().getProject().isSnapshot()) {
             Optional<GHMilestone> milestone = api.findMilestoneByName(
@@ -22,15 +22,15 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import feign.form.FormData;
 import feign.form.FormEncoder;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
-import org.apache.tika.Tika;
-import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
+import org.jreleaser.model.uploader.spi.UploadException;
+import org.jreleaser.sdk.commons.AssetTasks;
 import org.jreleaser.sdk.commons.ClientUtils;
 import org.jreleaser.sdk.commons.RestAPIException;
+import org.jreleaser.sdk.commons.UploadJournal;
 import org.jreleaser.sdk.gitlab.api.FileUpload;
 import org.jreleaser.sdk.gitlab.api.GitlabAPI;
 import org.jreleaser.sdk.gitlab.api.Milestone;
@@ -42,10 +42,10 @@ import org.jreleaser.util.JReleaserLogger;
 import org.jreleaser.util.StringUtils;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
@@ -60,11 +60,15 @@ import static org.jreleaser.util.StringUtils.requireNonBlank;
 class Gitlab {
     static final String ENDPOINT = "https://gitlab.com/api/v4";
     private static final String API_V4 = "/api/v4";
-    private final Tika tika = new Tika();
 
     private final JReleaserLogger logger;
     private final GitlabAPI api;
+    private final ObjectMapper objectMapper;
+    private final String endpoint;
     private final String apiHost;
+    private final String token;
+    private final int connectTimeout;
+    private final int readTimeout;
 
     private User user;
     private Project project;
@@ -97,6 +101,11 @@ class Gitlab {
             .configure(SerializationFeature.INDENT_OUTPUT, true);
 
         this.logger = logger;
+        this.objectMapper = objectMapper;
+        this.endpoint = endpoint;
+        this.token = token;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
         this.api = ClientUtils.builder(logger, connectTimeout, readTimeout)
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new JacksonDecoder(objectMapper))
@@ -230,47 +239,41 @@ class Gitlab {
         api.updateRelease(release, project.getId());
     }
 
-    List<FileUpload> uploadAssets(String owner, String repoName, String identifier, List<Path> assets) throws IOException, RestAPIException {
+    List<FileUpload> uploadAssets(String owner, String repoName, String identifier, List<Path> assets, int parallelism, UploadJournal journal) throws IOException, RestAPIException {
         logger.debug(RB.$("git.upload.assets"), owner, repoName);
 
-        List<FileUpload> uploads = new ArrayList<>();
-
         Project project = getProject(repoName, identifier);
 
-        for (Path asset : assets) {
-            if (0 == asset.toFile().length() || !Files.exists(asset)) {
-                // do not upload empty or non existent files
-                continue;
-            }
+        // skips empty, non existent and already linked files
+        List<Path> files = journal.pending(assets);
 
-            logger.info(" " + RB.$("git.upload.asset"), asset.getFileName().toString());
-            try {
-                FileUpload upload = api.uploadFile(project.getId(), toFormData(asset));
+        return AssetTasks.run(logger, parallelism, files,
+            asset -> asset.getFileName().toString(),
+            asset -> {
+                logger.info(" " + RB.$("git.upload.asset"), asset.getFileName().toString());
+                FileUpload upload = uploadFile(project.getId(), asset);
                 upload.setName(asset.getFileName().toString());
-                uploads.add(upload);
-            } catch (IOException | RestAPIException e) {
-                logger.error(" " + RB.$("git.upload.asset.failure"), asset.getFileName());
-                throw e;
-            }
-        }
-
-        return uploads;
+                return upload;
+            },
+            AssetTasks::isTransient,
+            "git.upload.asset.failure");
     }
 
-    void linkAssets(String owner, String repoName, Release release, String identifier, List<FileUpload> uploads) throws IOException, RestAPIException {
+    void linkAssets(String owner, String repoName, Release release, String identifier, List<FileUpload> uploads, int parallelism, UploadJournal journal) throws IOException, RestAPIException {
         logger.debug(RB.$("git.upload.asset.links"), owner, repoName, release.getTagName());
 
         Project project = getProject(repoName, identifier);
 
-        for (FileUpload upload : uploads) {
-            logger.debug(" " + RB.$("git.upload.asset.link"), upload.getName());
-            try {
+        AssetTasks.run(logger, parallelism, uploads,
+            FileUpload::getName,
+            upload -> {
+                logger.debug(" " + RB.$("git.upload.asset.link"), upload.getName());
                 api.linkAsset(upload.toLinkRequest(apiHost), project.getId(), release.getTagName());
-            } catch (RestAPIException e) {
-                logger.error(" " + RB.$("git.upload.asset.link.failure"), upload.getName());
-                throw e;
-            }
-        }
+                journal.record(upload.getName());
+                return upload;
+            },
+            AssetTasks::isTransient,
+            "git.upload.asset.link.failure");
     }
 
     Optional<org.jreleaser.model.releaser.spi.User> findUser(String email, String name) throws RestAPIException {
@@ -293,11 +296,21 @@ class Gitlab {
         return Optional.empty();
     }
 
-    private FormData toFormData(Path asset) throws IOException {
-        return FormData.builder()
-            .fileName(asset.getFileName().toString())
-            .contentType(MediaType.parse(tika.detect(asset)).toString())
-            .data(Files.readAllBytes(asset))
-            .build();
+    private FileUpload uploadFile(Integer projectId, Path asset) throws IOException {
+        // streamed outside of Feign as it would buffer the whole multipart body
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Authorization", String.format("Bearer %s", token));
+
+        try {
+            String response = ClientUtils.postFile(logger,
+                endpoint + "/projects/" + projectId + "/uploads",
+                connectTimeout,
+                readTimeout,
+                ClientUtils.toMultipartBody("file", asset),
+                headers);
+            return objectMapper.readValue(response, FileUpload.class);
+        } catch (UploadException e) {
+            throw new IOException(e.getMessage(), e);
+        }
     }
 }
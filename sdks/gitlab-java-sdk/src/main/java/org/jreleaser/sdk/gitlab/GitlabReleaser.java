@@ -25,6 +25,7 @@ import org.jreleaser.model.releaser.spi.ReleaseException;
 import org.jreleaser.model.releaser.spi.Repository;
 import org.jreleaser.model.releaser.spi.User;
 import org.jreleaser.sdk.commons.RestAPIException;
+import org.jreleaser.sdk.commons.UploadJournal;
 import org.jreleaser.sdk.git.GitSdk;
 import org.jreleaser.sdk.git.ReleaseUtils;
 import org.jreleaser.sdk.gitlab.api.FileUpload;
@@ -106,8 +107,9 @@ public class GitlabReleaser extends AbstractReleaser {
                         }
 
                         if (gitlab.getUpdateSections().contains(UpdateSection.ASSETS)) {
-                            List<FileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), gitlab.getIdentifier(), assets);
-                            api.linkAssets(gitlab.getOwner(), gitlab.getName(), release, gitlab.getIdentifier(), uploads);
+                            UploadJournal journal = UploadJournal.of(context, gitlab.getServiceName(), tagName);
+                            List<FileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), gitlab.getIdentifier(), assets, gitlab.getUploadParallelism(), journal);
+                            api.linkAssets(gitlab.getOwner(), gitlab.getName(), release, gitlab.getIdentifier(), uploads, gitlab.getUploadParallelism(), journal);
                         }
                     }
                 } else {
@@ -207,7 +209,9 @@ public class GitlabReleaser extends AbstractReleaser {
             GitSdk.of(context).tag(tagName, true, context);
         }
 
-        List<FileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), gitlab.getIdentifier(), assets);
+        // releases are keyed by tag, a new release starts with a clean journal
+        UploadJournal journal = UploadJournal.of(context, gitlab.getServiceName(), tagName).clear();
+        List<FileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), gitlab.getIdentifier(), assets, gitlab.getUploadParallelism(), journal);
 
         Release release = new Release();
         release.setName(gitlab.getEffectiveReleaseName());
@@ -217,7 +221,7 @@ public class GitlabReleaser extends AbstractReleaser {
 
         // remote tag/release
         api.createRelease(gitlab.getOwner(), gitlab.getName(), gitlab.getIdentifier(), release);
-        api.linkAssets(gitlab.getOwner(), gitlab.getName(), release, gitlab.getIdentifier(), uploads);
+        api.linkAssets(gitlab.getOwner(), gitlab.getName(), release, gitlab.getIdentifier(), uploads, gitlab.getUploadParallelism(), journal);
 
         if (gitlab.getMilestone().isClose() && !context.getModel().getProject().isSnapshot()) {
             Optional<Milestone> milestone = api.findMilestoneByName(
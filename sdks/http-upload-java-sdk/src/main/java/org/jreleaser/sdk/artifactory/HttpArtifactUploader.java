@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.artifactory;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.Http;
@@ -26,12 +25,14 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.uploader.spi.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.FileUploadBody;
+import org.jreleaser.util.Algorithm;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 
 import static org.jreleaser.util.MustacheUtils.applyTemplate;
@@ -64,62 +65,81 @@ public class HttpArtifactUploader extends AbstractArtifactUploader<Http> {
     }
 
     @Override
-    public void upload(String name) throws UploadException {
-        List<Artifact> artifacts = collectArtifacts();
-        if (artifacts.isEmpty()) {
-            context.getLogger().info(RB.$("artifacts.no.match"));
+    public boolean isUpToDate(String name, Artifact artifact) throws UploadException {
+        if (context.isDryrun()) return false;
+
+        Path path = artifact.getEffectivePath(context);
+        try {
+            Map<String, String> remote = ClientUtils.head(context.getLogger(),
+                uploader.getResolvedUploadUrl(context, artifact),
+                uploader.getConnectTimeout(),
+                uploader.getReadTimeout(),
+                resolveAuthorizationHeaders());
+
+            // servers are free to pick any ETag, match it against the usual digests
+            String etag = remote.get("etag");
+            if (etag == null) return false;
+            return hashMatches(etag, resolveHashes(artifact,
+                Arrays.asList(Algorithm.SHA_256, Algorithm.SHA_1, Algorithm.MD5)).values());
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+            throw new UploadException(RB.$("ERROR_unexpected_upload",
+                context.getBasedir().relativize(path)), e);
         }
+    }
 
+    @Override
+    public void upload(String name, Artifact artifact) throws UploadException {
+        Path path = artifact.getEffectivePath(context);
+        if (!context.isDryrun()) {
+            try {
+                FileUploadBody data = ClientUtils.toUploadBody(path);
+
+                Map<String, String> headers = resolveAuthorizationHeaders();
+                resolveHeaders(artifact, headers);
+
+                if (uploader.getMethod() == HttpUploader.Method.POST) {
+                    ClientUtils.postFile(context.getLogger(),
+                        uploader.getResolvedUploadUrl(context, artifact),
+                        uploader.getConnectTimeout(),
+                        uploader.getReadTimeout(),
+                        data,
+                        headers);
+                } else {
+                    ClientUtils.putFile(context.getLogger(),
+                        uploader.getResolvedUploadUrl(context, artifact),
+                        uploader.getConnectTimeout(),
+                        uploader.getReadTimeout(),
+                        data,
+                        headers);
+                }
+            } catch (IOException e) {
+                context.getLogger().trace(e);
+                throw new UploadException(RB.$("ERROR_unexpected_upload",
+                    context.getBasedir().relativize(path)), e);
+            }
+        }
+    }
+
+    private Map<String, String> resolveAuthorizationHeaders() {
         String username = uploader.getResolvedUsername();
         String password = uploader.getResolvedPassword();
 
-        for (Artifact artifact : artifacts) {
-            Path path = artifact.getEffectivePath(context);
-            context.getLogger().info(" - {}", path.getFileName());
-
-            if (!context.isDryrun()) {
-                try {
-                    FormData data = ClientUtils.toFormData(path);
-
-                    Map<String, String> headers = new LinkedHashMap<>();
-                    switch (uploader.resolveAuthorization()) {
-                        case NONE:
-                            break;
-                        case BASIC:
-                            String auth = username + ":" + password;
-                            byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes());
-                            auth = new String(encodedAuth);
-                            headers.put("Authorization", "Basic " + auth);
-                            break;
-                        case BEARER:
-                            headers.put("Authorization", "Bearer " + password);
-                            break;
-                    }
-
-                    resolveHeaders(artifact, headers);
-
-                    if (uploader.getMethod() == HttpUploader.Method.POST) {
-                        ClientUtils.postFile(context.getLogger(),
-                            uploader.getResolvedUploadUrl(context, artifact),
-                            uploader.getConnectTimeout(),
-                            uploader.getReadTimeout(),
-                            data,
-                            headers);
-                    } else {
-                        ClientUtils.putFile(context.getLogger(),
-                            uploader.getResolvedUploadUrl(context, artifact),
-                            uploader.getConnectTimeout(),
-                            uploader.getReadTimeout(),
-                            data,
-                            headers);
-                    }
-                } catch (IOException e) {
-                    context.getLogger().trace(e);
-                    throw new UploadException(RB.$("ERROR_unexpected_upload",
-                        context.getBasedir().relativize(path)), e);
-                }
-            }
+        Map<String, String> headers = new LinkedHashMap<>();
+        switch (uploader.resolveAuthorization()) {
+            case NONE:
+                break;
+            case BASIC:
+                String auth = username + ":" + password;
+                byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes());
+                auth = new String(encodedAuth);
+                headers.put("Authorization", "Basic " + auth);
+                break;
+            case BEARER:
+                headers.put("Authorization", "Bearer " + password);
+                break;
         }
+        return headers;
     }
 
     private void resolveHeaders(Artifact artifact, Map<String, String> headers) {
@@ -17,20 +17,29 @@
  */
 package org.jreleaser.sdk.commons;
 
+import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.Distribution;
 import org.jreleaser.model.ExtraProperties;
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.Uploader;
 import org.jreleaser.model.uploader.spi.ArtifactUploader;
+import org.jreleaser.model.uploader.spi.UploadException;
 import org.jreleaser.model.util.Artifacts;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.jreleaser.model.Signing.KEY_SKIP_SIGNING;
+import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
@@ -44,7 +53,66 @@ public abstract class AbstractArtifactUploader<U extends Uploader> implements Ar
         this.context = context;
     }
 
-    protected List<Artifact> collectArtifacts() {
+    @Override
+    public void upload(String name) throws UploadException {
+        List<Artifact> artifacts = collectArtifacts();
+        if (artifacts.isEmpty()) {
+            context.getLogger().info(RB.$("artifacts.no.match"));
+        }
+
+        boolean incremental = context.getModel().getUpload().isIncremental();
+        for (Artifact artifact : artifacts) {
+            context.getLogger().info(" - {}", artifact.getEffectivePath(context).getFileName());
+            if (incremental && isUpToDate(name, artifact)) {
+                context.getLogger().info(RB.$("uploaders.upload.unchanged"),
+                    artifact.getEffectivePath(context).getFileName(), name);
+                continue;
+            }
+            upload(name, artifact);
+        }
+    }
+
+    /**
+     * Returns the requested digests of the given artifact, reusing those computed by the
+     * checksum step and reading the file once for any that are missing.
+     */
+    protected Map<Algorithm, String> resolveHashes(Artifact artifact, Collection<Algorithm> algorithms) throws IOException {
+        Map<Algorithm, String> hashes = new LinkedHashMap<>();
+        List<Algorithm> missing = new ArrayList<>();
+        for (Algorithm algorithm : algorithms) {
+            String hash = artifact.getHash(algorithm);
+            if (isBlank(hash)) {
+                missing.add(algorithm);
+            } else {
+                hashes.put(algorithm, hash);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            hashes.putAll(ChecksumUtils.checksum(missing, artifact.getEffectivePath(context)));
+        }
+
+        return hashes;
+    }
+
+    protected static boolean hashMatches(String remote, Collection<String> hashes) {
+        if (isBlank(remote)) return false;
+
+        // ETags may be weak and are usually quoted
+        String value = remote.trim();
+        if (value.startsWith("W/")) value = value.substring(2);
+        if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+
+        for (String hash : hashes) {
+            if (value.equalsIgnoreCase(hash)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public List<Artifact> collectArtifacts() {
         List<Artifact> artifacts = new ArrayList<>();
 
         List<String> keys = getUploader().resolveSkipKeys();
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.util.ConcurrencyUtils;
+import org.jreleaser.util.JReleaserLogger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Runs a task for every release asset with up to {@code parallelism} tasks in flight.
+ * Transient failures are retried with an exponential backoff, every other failure is
+ * collected and reported once all assets have been processed.
+ *
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public final class AssetTasks {
+    private static final int MAX_RETRIES = 3;
+    private static final long INITIAL_BACKOFF = TimeUnit.SECONDS.toMillis(1);
+
+    private AssetTasks() {
+        // noop
+    }
+
+    public interface Task<I, O> {
+        O apply(I item) throws IOException;
+    }
+
+    /**
+     * Returns the results of {@code task} in the same order as {@code items}.
+     */
+    public static <I, O> List<O> run(JReleaserLogger logger,
+                                     int parallelism,
+                                     List<I> items,
+                                     Function<I, String> nameOf,
+                                     Task<I, O> task,
+                                     Predicate<Throwable> retryable,
+                                     String failureKey) throws IOException {
+        List<Callable<Outcome<O>>> tasks = new ArrayList<>();
+        for (I item : items) {
+            tasks.add(() -> {
+                try {
+                    return new Outcome<>(apply(logger, item, nameOf, task, retryable), null);
+                } catch (IOException | RuntimeException e) {
+                    return new Outcome<>(null, e);
+                }
+            });
+        }
+
+        List<O> results = new ArrayList<>();
+        List<Exception> failures = new ArrayList<>();
+        List<Outcome<O>> outcomes = ConcurrencyUtils.invokeAll("assets", parallelism, tasks);
+        for (int i = 0; i < outcomes.size(); i++) {
+            Outcome<O> outcome = outcomes.get(i);
+            if (null != outcome.failure) {
+                logger.error(" " + RB.$(failureKey), nameOf.apply(items.get(i)));
+                logger.trace(outcome.failure);
+                failures.add(outcome.failure);
+            } else {
+                results.add(outcome.result);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            IOException e = new IOException(RB.$("ERROR_git_upload_assets", failures.size(), items.size()));
+            failures.forEach(e::addSuppressed);
+            throw e;
+        }
+
+        return results;
+    }
+
+    /**
+     * Whether the failure is worth retrying, that is, a server error or a rate limit response.
+     */
+    public static boolean isTransient(Throwable throwable) {
+        for (Throwable t = throwable; null != t; t = t.getCause()) {
+            if (t instanceof RestAPIException) {
+                int status = ((RestAPIException) t).getStatus();
+                return status >= 500 || status == 429;
+            }
+        }
+        return false;
+    }
+
+    private static <I, O> O apply(JReleaserLogger logger,
+                                  I item,
+                                  Function<I, String> nameOf,
+                                  Task<I, O> task,
+                                  Predicate<Throwable> retryable) throws IOException {
+        long backoff = INITIAL_BACKOFF;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return task.apply(item);
+            } catch (IOException | RuntimeException e) {
+                if (attempt > MAX_RETRIES || !retryable.test(e)) throw e;
+
+                logger.warn(" " + RB.$("git.upload.asset.retry"), nameOf.apply(item),
+                    TimeUnit.MILLISECONDS.toSeconds(backoff), attempt, MAX_RETRIES);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                backoff *= 2;
+            }
+        }
+    }
+
+    private static class Outcome<O> {
+        private final O result;
+        private final Exception failure;
+
+        private Outcome(O result, Exception failure) {
+            this.result = result;
+            this.failure = failure;
+        }
+    }
+}
@@ -21,11 +21,22 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.Feign;
 import feign.Request;
-import feign.form.FormData;
 import feign.form.FormEncoder;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
-import org.apache.commons.io.IOUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
 import org.apache.tika.Tika;
 import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
@@ -37,13 +48,10 @@ import org.jreleaser.util.Constants;
 import org.jreleaser.util.JReleaserLogger;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.Reader;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -57,17 +65,65 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  */
 public final class ClientUtils {
     private static final Tika TIKA = new Tika();
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final String SEGMENT_CHARS = "-._~!$&'()*+,;=:@";
+    private static final String PATH_CHARS = SEGMENT_CHARS + "/";
 
     private ClientUtils() {
         // noop
     }
 
-    public static FormData toFormData(Path asset) throws IOException {
-        return FormData.builder()
-            .fileName(asset.getFileName().toString())
-            .contentType(MediaType.parse(TIKA.detect(asset)).toString())
-            .data(Files.readAllBytes(asset))
-            .build();
+    public static FileUploadBody toUploadBody(Path asset) throws IOException {
+        return new FileUploadBody(asset, MediaType.parse(TIKA.detect(asset)).toString());
+    }
+
+    public static MultipartUploadBody toMultipartBody(String name, Path asset) throws IOException {
+        return new MultipartUploadBody(name, toUploadBody(asset));
+    }
+
+    /**
+     * Percent-encodes a value so that it can be used as a single URL path segment.
+     */
+    public static String encodePathSegment(String segment) {
+        return encode(segment, SEGMENT_CHARS, false);
+    }
+
+    /**
+     * Percent-encodes characters that may not appear in the path of {@code url}, such as spaces or
+     * quotes in artifact file names. Existing escapes, query and fragment are left as is.
+     */
+    public static String encodeUrlPath(String url) {
+        int scheme = url.indexOf("://");
+        int start = url.indexOf('/', scheme < 0 ? 0 : scheme + 3);
+        if (start < 0) return url;
+
+        int end = start;
+        while (end < url.length() && url.charAt(end) != '?' && url.charAt(end) != '#') end++;
+
+        return url.substring(0, start) +
+            encode(url.substring(start, end), PATH_CHARS, true) +
+            url.substring(end);
+    }
+
+    private static String encode(String value, String allowed, boolean keepEscapes) {
+        byte[] bytes = value.getBytes(UTF_8);
+        StringBuilder b = new StringBuilder(bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            int c = bytes[i] & 0xFF;
+            boolean escape = keepEscapes && c == '%' && i + 2 < bytes.length &&
+                isHexDigit(bytes[i + 1]) && isHexDigit(bytes[i + 2]);
+            if (escape || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') ||
+                (c < 0x80 && allowed.indexOf(c) != -1)) {
+                b.append((char) c);
+            } else {
+                b.append('%').append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+        return b.toString();
+    }
+
+    private static boolean isHexDigit(byte c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
     }
 
     public static Feign.Builder builder(JReleaserLogger logger,
@@ -80,7 +136,8 @@ public final class ClientUtils {
             .decoder(new JacksonDecoder())
             .requestInterceptor(template -> template.header("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion()))
             .errorDecoder((methodKey, response) -> new RestAPIException(response.request(), response.status(), response.reason(), response.headers()))
-            .options(new Request.Options(connectTimeout, TimeUnit.SECONDS, readTimeout, TimeUnit.SECONDS, true));
+            .options(new Request.Options(connectTimeout, TimeUnit.SECONDS, readTimeout, TimeUnit.SECONDS, true))
+            .client(SharedHttpClient.feignClient());
     }
 
     public static void webhook(JReleaserLogger logger,
@@ -105,50 +162,21 @@ public final class ClientUtils {
                                int connectTimeout,
                                int readTimeout,
                                String message) throws AnnounceException {
-        try {
-            // create URL
-            URL url = new URL(webhookUrl);
-            // open connection
-            logger.debug(RB.$("webhook.connection.open"));
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            // set options
-            logger.debug(RB.$("webhook.connection.configure"));
-            connection.setConnectTimeout(connectTimeout * 1000);
-            connection.setReadTimeout(readTimeout * 1000);
-            connection.setAllowUserInteraction(false);
-            connection.setInstanceFollowRedirects(true);
-
-            connection.setRequestMethod("POST");
-            connection.addRequestProperty("Content-Type", "application/json");
-            connection.addRequestProperty("Accept", "application/json");
-            connection.addRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
-            connection.setDoOutput(true);
-
-            // write message
-            logger.debug(RB.$("webhook.message.send"));
-            try (OutputStream os = connection.getOutputStream()) {
-                byte[] input = message.getBytes(UTF_8);
-                os.write(input, 0, input.length);
-            }
+        HttpPost request = new HttpPost(webhookUrl);
+        request.setConfig(requestConfig(connectTimeout, readTimeout, false));
+        request.addHeader("Accept", "application/json");
+        request.setEntity(new StringEntity(message, ContentType.APPLICATION_JSON));
 
+        // write message
+        logger.debug(RB.$("webhook.message.send"));
+        try (CloseableHttpResponse response = SharedHttpClient.get().execute(request)) {
             // handle response
             logger.debug(RB.$("webhook.response.handle"));
-            int status = connection.getResponseCode();
+            int status = response.getStatusLine().getStatusCode();
+            // always read the body in full, otherwise the connection cannot be reused
+            String body = readBody(response);
             if (status >= 400) {
-                String reason = connection.getResponseMessage();
-                Reader reader = new InputStreamReader(connection.getErrorStream(), UTF_8);
-                message = IOUtils.toString(reader);
-                StringBuilder b = new StringBuilder("Webhook replied with: ")
-                    .append(status);
-                if (isNotBlank(reason)) {
-                    b.append(" reason: ")
-                        .append(reason)
-                        .append(",");
-                }
-                if (isNotBlank(message)) {
-                    b.append(message);
-                }
-                throw new AnnounceException(b.toString());
+                throw new AnnounceException(failure("Webhook replied with: ", response, body));
             }
         } catch (IOException e) {
             logger.trace(e);
@@ -156,94 +184,167 @@ public final class ClientUtils {
         }
     }
 
-    public static void postFile(JReleaserLogger logger,
-                                String url,
-                                int connectTimeout,
-                                int readTimeout,
-                                FormData data,
-                                Map<String, String> headers) throws UploadException {
+    public static String postFile(JReleaserLogger logger,
+                                  String url,
+                                  int connectTimeout,
+                                  int readTimeout,
+                                  UploadBody data,
+                                  Map<String, String> headers) throws UploadException {
         headers.put("METHOD", "POST");
-        uploadFile(logger, url, connectTimeout, readTimeout, data, headers);
+        return uploadFile(logger, url, connectTimeout, readTimeout, data, headers);
     }
 
-    public static void putFile(JReleaserLogger logger,
-                               String url,
-                               int connectTimeout,
-                               int readTimeout,
-                               FormData data,
-                               Map<String, String> headers) throws UploadException {
+    public static String putFile(JReleaserLogger logger,
+                                 String url,
+                                 int connectTimeout,
+                                 int readTimeout,
+                                 UploadBody data,
+                                 Map<String, String> headers) throws UploadException {
         headers.put("METHOD", "PUT");
         headers.put("Expect", "100-continue");
-        uploadFile(logger, url, connectTimeout, readTimeout, data, headers);
+        return uploadFile(logger, url, connectTimeout, readTimeout, data, headers);
     }
 
-    private static void uploadFile(JReleaserLogger logger,
-                                   String url,
-                                   int connectTimeout,
-                                   int readTimeout,
-                                   FormData data,
-                                   Map<String, String> headers) throws UploadException {
-        try {
-            // create URL
-            URL theUrl = new URL(url);
-            logger.debug("url: {}", theUrl);
-
-            // open connection
-            logger.debug(RB.$("webhook.connection.open"));
-            HttpURLConnection connection = (HttpURLConnection) theUrl.openConnection();
-            // set options
-            logger.debug(RB.$("webhook.connection.configure"));
-            connection.setConnectTimeout(connectTimeout * 1000);
-            connection.setReadTimeout(readTimeout * 1000);
-            connection.setAllowUserInteraction(false);
-            connection.setInstanceFollowRedirects(true);
-
-            connection.setRequestMethod(headers.remove("METHOD"));
-            connection.addRequestProperty("Accept", "*/*");
-            connection.addRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
-            connection.addRequestProperty("Content-Length", data.getData().length + "");
-            connection.setRequestProperty("Content-Type", data.getContentType());
-            headers.forEach(connection::setRequestProperty);
-
-            connection.getRequestProperties().forEach((k, v) -> {
-                if (JReleaserModelPrinter.isSecret(k)) {
-                    logger.debug("{}: {}", k, Constants.HIDE);
-                } else {
-                    logger.debug("{}: {}", k, v);
+    /**
+     * Issues a HEAD request and returns the response headers keyed by lower case name.
+     * The map is empty if the remote resource does not exist or cannot be read.
+     */
+    public static Map<String, String> head(JReleaserLogger logger,
+                                           String url,
+                                           int connectTimeout,
+                                           int readTimeout,
+                                           Map<String, String> headers) throws UploadException {
+        logger.debug("url: {}", url);
+
+        HttpHead request = new HttpHead(encodeUrlPath(url));
+        request.setConfig(requestConfig(connectTimeout, readTimeout, false));
+        request.addHeader("Accept", "*/*");
+        headers.forEach(request::setHeader);
+
+        try (CloseableHttpResponse response = SharedHttpClient.get().execute(request)) {
+            Map<String, String> responseHeaders = new LinkedHashMap<>();
+            int status = response.getStatusLine().getStatusCode();
+            logger.debug("status: {}", status);
+            if (status < 400) {
+                for (Header header : response.getAllHeaders()) {
+                    responseHeaders.putIfAbsent(header.getName().toLowerCase(), header.getValue());
                 }
-            });
+            }
 
-            connection.setDoOutput(true);
+            return responseHeaders;
+        } catch (IOException e) {
+            logger.trace(e);
+            throw new UploadException(e);
+        }
+    }
 
-            // write message
-            logger.debug(RB.$("webhook.data.send"));
-            try (OutputStream os = connection.getOutputStream()) {
-                os.write(data.getData(), 0, data.getData().length);
-                os.flush();
+    private static String uploadFile(JReleaserLogger logger,
+                                     String url,
+                                     int connectTimeout,
+                                     int readTimeout,
+                                     UploadBody data,
+                                     Map<String, String> headers) throws UploadException {
+        logger.debug("url: {}", url);
+
+        String target = encodeUrlPath(url);
+        HttpEntityEnclosingRequestBase request = "PUT".equals(headers.remove("METHOD")) ?
+            new HttpPut(target) : new HttpPost(target);
+        boolean expectContinue = null != headers.remove("Expect");
+        request.setConfig(requestConfig(connectTimeout, readTimeout, expectContinue));
+        request.addHeader("Accept", "*/*");
+        headers.forEach(request::setHeader);
+        // streamed with a fixed length, never buffered in full
+        request.setEntity(new UploadBodyEntity(data));
+
+        for (Header header : request.getAllHeaders()) {
+            if (JReleaserModelPrinter.isSecret(header.getName())) {
+                logger.debug("{}: {}", header.getName(), Constants.HIDE);
+            } else {
+                logger.debug("{}: {}", header.getName(), header.getValue());
             }
+        }
 
+        // write message
+        logger.debug(RB.$("webhook.data.send"));
+        try (CloseableHttpResponse response = SharedHttpClient.get().execute(request)) {
             // handle response
             logger.debug(RB.$("webhook.response.handle"));
-            int status = connection.getResponseCode();
+            int status = response.getStatusLine().getStatusCode();
+            String body = readBody(response);
             if (status >= 400) {
-                String reason = connection.getResponseMessage();
-                Reader reader = new InputStreamReader(connection.getErrorStream(), UTF_8);
-                String message = IOUtils.toString(reader);
-                StringBuilder b = new StringBuilder("Got ")
-                    .append(status);
-                if (isNotBlank(reason)) {
-                    b.append(" reason: ")
-                        .append(reason)
-                        .append(",");
-                }
-                if (isNotBlank(message)) {
-                    b.append(message);
-                }
-                throw new UploadException(b.toString());
+                // keep the status around so that callers may retry transient failures
+                throw new UploadException(failure("Got ", response, body),
+                    new RestAPIException(status, response.getStatusLine().getReasonPhrase()));
             }
+
+            return body;
         } catch (IOException e) {
             logger.trace(e);
             throw new UploadException(e);
         }
     }
+
+    private static RequestConfig requestConfig(int connectTimeout, int readTimeout, boolean expectContinue) {
+        return RequestConfig.custom()
+            .setConnectTimeout(connectTimeout * 1000)
+            .setSocketTimeout(readTimeout * 1000)
+            .setExpectContinueEnabled(expectContinue)
+            .build();
+    }
+
+    private static String readBody(HttpResponse response) throws IOException {
+        HttpEntity entity = response.getEntity();
+        return null != entity ? EntityUtils.toString(entity, UTF_8) : "";
+    }
+
+    private static String failure(String prefix, HttpResponse response, String message) {
+        String reason = response.getStatusLine().getReasonPhrase();
+        StringBuilder b = new StringBuilder(prefix)
+            .append(response.getStatusLine().getStatusCode());
+        if (isNotBlank(reason)) {
+            b.append(" reason: ")
+                .append(reason)
+                .append(",");
+        }
+        if (isNotBlank(message)) {
+            b.append(message);
+        }
+        return b.toString();
+    }
+
+    private static class UploadBodyEntity extends AbstractHttpEntity {
+        private final UploadBody data;
+
+        private UploadBodyEntity(UploadBody data) {
+            this.data = data;
+            setContentType(data.getContentType());
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            // bodies are backed by files and may be written again
+            return true;
+        }
+
+        @Override
+        public long getContentLength() {
+            return data.getContentLength();
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return data.openStream();
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            data.writeTo(out);
+            out.flush();
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return false;
+        }
+    }
 }
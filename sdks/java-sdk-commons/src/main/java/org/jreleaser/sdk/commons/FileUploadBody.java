@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.jreleaser.bundle.RB;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Streams the contents of a file in chunks, never holding more than one chunk in memory.
+ *
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class FileUploadBody implements UploadBody {
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final String fileName;
+    private final String contentType;
+    private final long contentLength;
+
+    public FileUploadBody(Path file, String contentType) throws IOException {
+        this.file = file;
+        this.fileName = file.getFileName().toString();
+        this.contentType = contentType;
+        this.contentLength = Files.size(file);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+            long remaining = contentLength;
+            while (remaining > 0 && channel.read(buffer) != -1) {
+                buffer.flip();
+                remaining -= buffer.remaining();
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+            }
+            if (remaining != 0) {
+                throw new IOException(RB.$("ERROR_upload_file_changed", file.toAbsolutePath()));
+            }
+        }
+    }
+
+    @Override
+    public InputStream openStream() throws IOException {
+        return Files.newInputStream(file);
+    }
+}
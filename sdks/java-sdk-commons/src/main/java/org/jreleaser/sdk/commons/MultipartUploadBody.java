@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A multipart/form-data payload with a single file field. Boundary and part headers are
+ * computed upfront so that the total length is known before the file is streamed.
+ *
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class MultipartUploadBody implements UploadBody {
+    private static final String CRLF = "\r\n";
+
+    private final FileUploadBody file;
+    private final String boundary;
+    private final byte[] head;
+    private final byte[] tail;
+
+    public MultipartUploadBody(String name, FileUploadBody file) {
+        this.file = file;
+        this.boundary = "jreleaser-" + UUID.randomUUID().toString().replace("-", "");
+        this.head = ("--" + boundary + CRLF +
+            "Content-Disposition: form-data; name=\"" + escape(name) + "\"; filename=\"" + escape(file.getFileName()) + "\"" + CRLF +
+            "Content-Type: " + file.getContentType() + CRLF +
+            CRLF).getBytes(UTF_8);
+        this.tail = (CRLF + "--" + boundary + "--" + CRLF).getBytes(UTF_8);
+    }
+
+    @Override
+    public String getContentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    @Override
+    public long getContentLength() {
+        return head.length + file.getContentLength() + tail.length;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(head);
+        file.writeTo(out);
+        out.write(tail);
+    }
+
+    @Override
+    public InputStream openStream() throws IOException {
+        return new SequenceInputStream(Collections.enumeration(Arrays.asList(
+            new ByteArrayInputStream(head),
+            file.openStream(),
+            new ByteArrayInputStream(tail))));
+    }
+
+    private static String escape(String value) {
+        // same escaping browsers apply to form-data names and filenames
+        return value.replace("\"", "%22")
+            .replace("\r", "%0D")
+            .replace("\n", "%0A");
+    }
+}
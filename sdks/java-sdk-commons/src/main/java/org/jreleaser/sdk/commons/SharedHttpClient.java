@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import feign.Client;
+import feign.httpclient.ApacheHttpClient;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.jreleaser.model.JReleaserVersion;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process wide HTTP client backed by a connection pool, shared by every announcer, releaser
+ * and uploader so that connections (and their TLS sessions) are kept alive and reused across
+ * calls. Timeouts are set per request, the client itself carries none.
+ *
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public final class SharedHttpClient {
+    private static final int MAX_CONNECTIONS = 64;
+    private static final int MAX_CONNECTIONS_PER_HOST = 8;
+    private static final long IDLE_TIMEOUT = 30;
+
+    private static volatile CloseableHttpClient client;
+
+    private SharedHttpClient() {
+        // noop
+    }
+
+    public static CloseableHttpClient get() {
+        if (null == client) {
+            synchronized (SharedHttpClient.class) {
+                if (null == client) {
+                    client = create();
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Returns a Feign client that sends requests through the shared connection pool.
+     */
+    public static Client feignClient() {
+        return new ApacheHttpClient(get());
+    }
+
+    private static CloseableHttpClient create() {
+        // honor the same TLS and proxy settings HttpURLConnection does
+        Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+            .register("https", SSLConnectionSocketFactory.getSystemSocketFactory())
+            .build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry);
+        connectionManager.setMaxTotal(MAX_CONNECTIONS);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_HOST);
+        connectionManager.setValidateAfterInactivity((int) TimeUnit.SECONDS.toMillis(2));
+
+        return HttpClientBuilder.create()
+            .useSystemProperties()
+            .setConnectionManager(connectionManager)
+            .evictExpiredConnections()
+            .evictIdleConnections(IDLE_TIMEOUT, TimeUnit.SECONDS)
+            // clients talk to several services, cookies must not leak between them
+            .disableCookieManagement()
+            .setUserAgent("JReleaser/" + JReleaserVersion.getPlainVersion())
+            .build();
+    }
+}
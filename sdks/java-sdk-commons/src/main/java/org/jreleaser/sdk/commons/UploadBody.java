@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Request payload that is written straight to the connection, the length must be known
+ * beforehand so that it can be sent with fixed length streaming. Bodies may be read more than once.
+ *
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public interface UploadBody {
+    String getContentType();
+
+    long getContentLength();
+
+    void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * Opens a new stream over the same bytes {@link #writeTo(OutputStream)} writes.
+     */
+    InputStream openStream() throws IOException;
+}
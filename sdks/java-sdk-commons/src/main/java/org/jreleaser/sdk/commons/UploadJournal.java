@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.Artifact;
+import org.jreleaser.model.Distribution;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.util.Artifacts;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.PropertiesFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Records the identity (size, modification time) and SHA-256 of every asset uploaded to a given
+ * release so that a later run may upload only those assets that are missing or have changed since.
+ * Entries are persisted right after each upload to survive an interrupted release.
+ * <p>
+ * Assets whose identity changed are compared by SHA-256, touched or rebuilt but otherwise unchanged
+ * assets are skipped. Checksums calculated by the checksum step are reused when available.
+ *
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class UploadJournal {
+    private static final String SEPARATOR = "|";
+
+    private final JReleaserContext context;
+    private final Path file;
+    private final String prefix;
+    private Properties entries = new Properties();
+    private final Map<String, Path> paths = new ConcurrentHashMap<>();
+    private final Map<String, String> checksums = new ConcurrentHashMap<>();
+    private Map<Path, String> knownChecksums;
+
+    private UploadJournal(JReleaserContext context, String service, String release) {
+        this.context = context;
+        this.file = context.getOutputDirectory()
+            .resolve("release")
+            .resolve("upload-journal.properties");
+        this.prefix = service + "." + release + ".";
+    }
+
+    public static UploadJournal of(JReleaserContext context, String service, String release) {
+        UploadJournal journal = new UploadJournal(context, service, release);
+        journal.load();
+        return journal;
+    }
+
+    /**
+     * Returns the assets that have not been uploaded to this release with their current contents.
+     */
+    public List<Path> pending(List<Path> assets) throws IOException {
+        List<Path> pending = new ArrayList<>();
+        for (Path asset : assets) {
+            if (!Files.exists(asset) || 0 == asset.toFile().length()) continue;
+
+            String name = asset.getFileName().toString();
+            paths.put(name, asset);
+
+            if (isUnchanged(name, asset)) {
+                context.getLogger().info(" " + RB.$("git.upload.asset.unchanged"), name);
+            } else {
+                pending.add(asset);
+            }
+        }
+        return pending;
+    }
+
+    private boolean isUnchanged(String name, Path asset) throws IOException {
+        String value = entries.getProperty(prefix + name);
+        // never uploaded, no need to hash it
+        if (null == value) return false;
+
+        int separator = value.lastIndexOf(SEPARATOR);
+        String identity = separator < 0 ? "" : value.substring(0, separator);
+        String recorded = value.substring(separator + 1);
+        if (identity.equals(identity(asset))) return true;
+        if (recorded.isEmpty()) return false;
+
+        // touched or restored, content may still be the same
+        String checksum = checksum(name, asset);
+        if (!checksum.equals(recorded)) return false;
+
+        // persisted with the next recorded upload
+        entries.setProperty(prefix + name, identity(asset) + SEPARATOR + checksum);
+        return true;
+    }
+
+    /**
+     * Records a successful upload of an asset previously returned by {@link #pending(List)}.
+     */
+    public synchronized void record(String name) throws IOException {
+        Path asset = paths.get(name);
+        if (null == asset || context.isDryrun()) return;
+
+        entries.setProperty(prefix + name, identity(asset) + SEPARATOR + checksum(name, asset));
+        store();
+    }
+
+    /**
+     * Forgets every asset of this release, for releases that are identified by a reusable key.
+     */
+    public synchronized UploadJournal clear() throws IOException {
+        if (entries.keySet().removeIf(key -> String.valueOf(key).startsWith(prefix)) && !context.isDryrun()) {
+            store();
+        }
+        return this;
+    }
+
+    private String checksum(String name, Path asset) throws IOException {
+        String checksum = checksums.get(name);
+        if (null != checksum) return checksum;
+
+        checksum = knownChecksum(asset);
+        if (null == checksum) {
+            checksum = ChecksumUtils.checksum(Collections.singletonList(Algorithm.SHA_256), asset)
+                .get(Algorithm.SHA_256);
+        }
+        checksums.put(name, checksum);
+        return checksum;
+    }
+
+    private synchronized String knownChecksum(Path asset) {
+        if (null == knownChecksums) {
+            knownChecksums = new HashMap<>();
+            for (Artifact artifact : Artifacts.resolveFiles(context)) {
+                if (!artifact.isActive()) continue;
+                addKnownChecksum(artifact, artifact.getEffectivePath(context));
+            }
+            for (Distribution distribution : context.getModel().getActiveDistributions()) {
+                for (Artifact artifact : distribution.getArtifacts()) {
+                    if (!artifact.isActive()) continue;
+                    addKnownChecksum(artifact, artifact.getEffectivePath(context, distribution));
+                }
+            }
+        }
+
+        return knownChecksums.get(asset.toAbsolutePath().normalize());
+    }
+
+    private void addKnownChecksum(Artifact artifact, Path path) {
+        String hash = artifact.getHash(Algorithm.SHA_256);
+        if (isNotBlank(hash)) {
+            knownChecksums.put(path.toAbsolutePath().normalize(), hash);
+        }
+    }
+
+    private String identity(Path path) throws IOException {
+        return PropertiesFile.identity(path);
+    }
+
+    private void store() throws IOException {
+        PropertiesFile.store(file, entries);
+    }
+
+    private void load() {
+        try {
+            entries = PropertiesFile.load(file);
+        } catch (IOException e) {
+            // start over, assets will be uploaded again
+            context.getLogger().warn(RB.$("ERROR_upload_journal_read"), context.relativizeToBasedir(file));
+            context.getLogger().trace(e);
+            entries.clear();
+        }
+    }
+}
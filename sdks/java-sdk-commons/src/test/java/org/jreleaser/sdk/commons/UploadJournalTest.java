@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserModel;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+/**
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class UploadJournalTest {
+    @Test
+    public void uploadedAssetIsSkippedOnNextRun(@TempDir Path tmp) throws IOException {
+        // given:
+        JReleaserContext context = context(tmp);
+        List<Path> assets = Collections.singletonList(write(tmp.resolve("app.zip"), "content"));
+        upload(context, assets);
+
+        // when:
+        List<Path> pending = UploadJournal.of(context, "github", "1").pending(assets);
+
+        // then:
+        assertThat(pending, empty());
+    }
+
+    @Test
+    public void touchedAssetWithSameContentIsSkipped(@TempDir Path tmp) throws IOException {
+        // given:
+        JReleaserContext context = context(tmp);
+        Path asset = write(tmp.resolve("app.zip"), "content");
+        List<Path> assets = Collections.singletonList(asset);
+        upload(context, assets);
+
+        // when:
+        Files.setLastModifiedTime(asset, FileTime.fromMillis(Files.getLastModifiedTime(asset).toMillis() - 60_000L));
+        List<Path> pending = UploadJournal.of(context, "github", "1").pending(assets);
+
+        // then:
+        assertThat(pending, empty());
+    }
+
+    @Test
+    public void changedAssetIsUploadedAgain(@TempDir Path tmp) throws IOException {
+        // given:
+        JReleaserContext context = context(tmp);
+        Path asset = write(tmp.resolve("app.zip"), "content");
+        List<Path> assets = Collections.singletonList(asset);
+        upload(context, assets);
+
+        // when:
+        write(asset, "changed content");
+        List<Path> pending = UploadJournal.of(context, "github", "1").pending(assets);
+
+        // then:
+        assertThat(pending, contains(asset));
+    }
+
+    @Test
+    public void corruptJournalUploadsEverything(@TempDir Path tmp) throws IOException {
+        // given:
+        JReleaserContext context = context(tmp);
+        Path asset = write(tmp.resolve("app.zip"), "content");
+        List<Path> assets = Collections.singletonList(asset);
+        upload(context, assets);
+
+        // when:
+        write(context.getOutputDirectory().resolve("release").resolve("upload-journal.properties"), "\\uZZZZ");
+        List<Path> pending = UploadJournal.of(context, "github", "1").pending(assets);
+
+        // then:
+        assertThat(pending, contains(asset));
+    }
+
+    private void upload(JReleaserContext context, List<Path> assets) throws IOException {
+        UploadJournal journal = UploadJournal.of(context, "github", "1");
+        for (Path asset : journal.pending(assets)) {
+            journal.record(asset.getFileName().toString());
+        }
+    }
+
+    private Path write(Path path, String content) throws IOException {
+        Files.write(path, content.getBytes());
+        return path;
+    }
+
+    private JReleaserContext context(Path tmp) {
+        return new JReleaserContext(new SimpleJReleaserLoggerAdapter(),
+            JReleaserContext.Configurer.CLI_YAML,
+            JReleaserContext.Mode.FULL,
+            new JReleaserModel(),
+            tmp,
+            tmp.resolve("out").resolve("jreleaser"),
+            false,
+            false,
+            Collections.emptyList());
+    }
+}
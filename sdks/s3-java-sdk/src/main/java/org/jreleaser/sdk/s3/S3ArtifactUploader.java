@@ -17,6 +17,7 @@
  */
 package org.jreleaser.sdk.s3;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
@@ -25,11 +26,12 @@ import com.amazonaws.auth.BasicSessionCredentials;
 import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
-import com.amazonaws.services.s3.model.AccessControlList;
-import com.amazonaws.services.s3.model.GroupGrantee;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.Permission;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.apache.tika.Tika;
 import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
@@ -38,15 +40,15 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.S3;
 import org.jreleaser.model.uploader.spi.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ConcurrencyUtils;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 
-import static java.nio.file.StandardOpenOption.READ;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -56,7 +58,10 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  */
 public class S3ArtifactUploader extends AbstractArtifactUploader<S3> {
     private static final Tika TIKA = new Tika();
+    private static final String SHA256_METADATA = "sha256";
     private S3 uploader;
+    private AmazonS3 s3;
+    private TransferManager transferManager;
 
     public S3ArtifactUploader(JReleaserContext context) {
         super(context);
@@ -78,60 +83,105 @@ public class S3ArtifactUploader extends AbstractArtifactUploader<S3> {
     }
 
     @Override
-    public void upload(String name) throws UploadException {
-        List<Artifact> artifacts = collectArtifacts();
-        if (artifacts.isEmpty()) {
-            context.getLogger().info(RB.$("artifacts.no.match"));
-        }
-
-        String bucketName = uploader.getResolvedBucket();
+    public boolean isUpToDate(String name, Artifact artifact) throws UploadException {
+        if (context.isDryrun()) return false;
 
-        AmazonS3 s3 = createS3Client();
+        Path path = artifact.getEffectivePath(context);
+        try {
+            ObjectMetadata meta;
+            try {
+                meta = resolveS3Client().getObjectMetadata(uploader.getResolvedBucket(),
+                    resolveObjectKey(artifact));
+            } catch (AmazonS3Exception e) {
+                if (e.getStatusCode() == 404) return false;
+                throw e;
+            }
 
-        // does the bucket exist?
-        context.getLogger().debug(RB.$("s3.bucket.check"), bucketName);
-        if (!s3.doesBucketExistV2(bucketName)) {
-            // create the bucket
-            context.getLogger().debug(RB.$("s3.bucket.create"), bucketName);
-            s3.createBucket(bucketName);
+            // the ETag is the MD5 of single part uploads only, prefer the digest recorded on upload
+            Map<Algorithm, String> hashes = resolveHashes(artifact, Arrays.asList(Algorithm.SHA_256, Algorithm.MD5));
+            String sha256 = meta.getUserMetaDataOf(SHA256_METADATA);
+            if (isNotBlank(sha256)) {
+                return hashMatches(sha256, Collections.singletonList(hashes.get(Algorithm.SHA_256)));
+            }
+            return hashMatches(meta.getETag(), Collections.singletonList(hashes.get(Algorithm.MD5)));
+        } catch (IOException | AmazonClientException e) {
+            context.getLogger().trace(e);
+            throw new UploadException(RB.$("ERROR_unexpected_upload", context.relativizeToBasedir(path)), e);
         }
+    }
 
-        for (Artifact artifact : artifacts) {
-            Path path = artifact.getEffectivePath(context);
-            context.getLogger().info(" - {}", path.getFileName());
+    @Override
+    public void upload(String name, Artifact artifact) throws UploadException {
+        Path path = artifact.getEffectivePath(context);
 
-            try {
-                if (!context.isDryrun()) {
-                    String bucketPath = uploader.getResolvedPath(context, artifact);
+        try {
+            if (!context.isDryrun()) {
+                String bucketName = uploader.getResolvedBucket();
+                String bucketPath = resolveObjectKey(artifact);
+
+                ObjectMetadata meta = new ObjectMetadata();
+                meta.setContentType(MediaType.parse(TIKA.detect(path)).toString());
+                meta.addUserMetadata(SHA256_METADATA, resolveHashes(artifact,
+                    Collections.singletonList(Algorithm.SHA_256)).get(Algorithm.SHA_256));
+
+                // existing objects are overwritten and the ACL travels with the request
+                PutObjectRequest request = new PutObjectRequest(bucketName, bucketPath, path.toFile())
+                    .withMetadata(meta)
+                    .withCannedAcl(CannedAccessControlList.PublicRead);
+
+                context.getLogger().debug(RB.$("s3.object.write"), bucketName, bucketPath);
+                resolveTransferManager().upload(request).waitForCompletion();
+            }
+        } catch (IOException | AmazonClientException e) {
+            context.getLogger().trace(e);
+            throw new UploadException(RB.$("ERROR_unexpected_upload", context.relativizeToBasedir(path)), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UploadException(RB.$("ERROR_unexpected_upload", context.relativizeToBasedir(path)), e);
+        }
+    }
 
-                    context.getLogger().debug(RB.$("s3.object.check"), bucketName, bucketPath);
-                    if (s3.doesObjectExist(bucketName, bucketPath)) {
-                        context.getLogger().debug(RB.$("s3.object.create"), bucketName, bucketPath);
-                        s3.deleteObject(bucketName, bucketPath);
-                    }
+    String resolveObjectKey(Artifact artifact) {
+        return uploader.getResolvedPath(context, artifact);
+    }
 
-                    ObjectMetadata meta = new ObjectMetadata();
-                    meta.setContentType(MediaType.parse(TIKA.detect(path)).toString());
-                    meta.setContentLength(Files.size(path));
+    private synchronized TransferManager resolveTransferManager() throws UploadException {
+        if (null == transferManager) {
+            // files at or above one part are split and their parts sent concurrently,
+            // the part pool is shared by all artifacts of this uploader and uses daemon threads
+            long partSize = uploader.getPartSize() * 1024L * 1024L;
+            int partThreads = uploader.getPartThreads();
+
+            transferManager = TransferManagerBuilder.standard()
+                .withS3Client(resolveS3Client())
+                .withMultipartUploadThreshold(partSize)
+                .withMinimumUploadPartSize(partSize)
+                .withExecutorFactory(() -> ConcurrencyUtils.newFixedThreadPool("s3", partThreads))
+                .build();
+        }
 
-                    context.getLogger().debug(RB.$("s3.object.write"), bucketName, bucketPath);
-                    try (InputStream is = Files.newInputStream(path, READ)) {
-                        s3.putObject(new PutObjectRequest(bucketName, bucketPath, is, meta));
-                    }
+        return transferManager;
+    }
 
-                    context.getLogger().debug(RB.$("s3.object.acl"), bucketName, bucketPath);
-                    AccessControlList acl = s3.getObjectAcl(bucketName, bucketPath);
-                    acl.grantPermission(GroupGrantee.AllUsers, Permission.Read);
-                    s3.setObjectAcl(bucketName, bucketPath, acl);
-                }
-            } catch (IOException e) {
-                context.getLogger().trace(e);
-                throw new UploadException(RB.$("ERROR_unexpected_upload", context.relativizeToBasedir(path)), e);
+    private synchronized AmazonS3 resolveS3Client() throws UploadException {
+        if (null == s3) {
+            String bucketName = uploader.getResolvedBucket();
+            AmazonS3 client = createS3Client();
+
+            // does the bucket exist?
+            context.getLogger().debug(RB.$("s3.bucket.check"), bucketName);
+            if (!client.doesBucketExistV2(bucketName)) {
+                // create the bucket
+                context.getLogger().debug(RB.$("s3.bucket.create"), bucketName);
+                client.createBucket(bucketName);
             }
+            s3 = client;
         }
+
+        return s3;
     }
 
-    private AmazonS3 createS3Client() throws UploadException {
+    AmazonS3 createS3Client() throws UploadException {
         try {
             AmazonS3ClientBuilder s3Builder = AmazonS3ClientBuilder.standard();
             if (isNotBlank(uploader.getResolvedAccessKeyId()) &&
@@ -0,0 +1,280 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2021 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.s3;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ListPartsRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PartListing;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import org.jreleaser.model.Artifact;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserModel;
+import org.jreleaser.model.S3;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 0.10.0
+ */
+public class S3ArtifactUploaderTest {
+    private static final int MB = 1024 * 1024;
+
+    @Test
+    public void smallArtifactsAreSentInASingleRequest(@TempDir Path tmp) throws Exception {
+        // given:
+        FakeS3 s3 = new FakeS3();
+        S3ArtifactUploader uploader = uploader(tmp, s3);
+        Path file = write(tmp.resolve("small.bin"), MB / 2);
+
+        // when:
+        uploader.upload("s3", Artifact.of(file));
+
+        // then:
+        assertThat(s3.singleUploads.get(), equalTo(1));
+        assertThat(s3.parts.get(), equalTo(0));
+        assertThat(s3.objects.get("artifacts/small.bin"), equalTo(Files.readAllBytes(file)));
+        assertThat(s3.metadata.get("artifacts/small.bin").getUserMetaDataOf("sha256"), equalTo(sha256(file)));
+    }
+
+    @Test
+    public void largeArtifactsAreSentInParts(@TempDir Path tmp) throws Exception {
+        // given:
+        FakeS3 s3 = new FakeS3();
+        S3ArtifactUploader uploader = uploader(tmp, s3);
+        Path file = write(tmp.resolve("large.bin"), 2 * MB + MB / 2);
+
+        // when:
+        uploader.upload("s3", Artifact.of(file));
+
+        // then:
+        assertThat(s3.singleUploads.get(), equalTo(0));
+        assertThat(s3.parts.get(), equalTo(3));
+        assertThat(s3.objects.get("artifacts/large.bin"), equalTo(Files.readAllBytes(file)));
+        assertThat(s3.metadata.get("artifacts/large.bin").getUserMetaDataOf("sha256"), equalTo(sha256(file)));
+    }
+
+    @Test
+    public void multipartUploadsAreUpToDateUntilChanged(@TempDir Path tmp) throws Exception {
+        // given:
+        FakeS3 s3 = new FakeS3();
+        S3ArtifactUploader uploader = uploader(tmp, s3);
+        Path file = write(tmp.resolve("large.bin"), 2 * MB);
+        Artifact artifact = Artifact.of(file);
+
+        // expect:
+        assertThat(uploader.isUpToDate("s3", artifact), equalTo(false));
+
+        // when:
+        uploader.upload("s3", artifact);
+
+        // then:
+        assertThat(uploader.isUpToDate("s3", artifact), equalTo(true));
+
+        // when:
+        write(file, 2 * MB);
+
+        // then:
+        assertThat(uploader.isUpToDate("s3", Artifact.of(file)), equalTo(false));
+    }
+
+    private S3ArtifactUploader uploader(Path tmp, AmazonS3 s3) {
+        JReleaserContext context = new JReleaserContext(new SimpleJReleaserLoggerAdapter(),
+            JReleaserContext.Configurer.CLI_YAML,
+            JReleaserContext.Mode.FULL,
+            new JReleaserModel(),
+            tmp,
+            tmp.resolve("out").resolve("jreleaser"),
+            false,
+            false,
+            Collections.emptyList());
+
+        S3 model = new S3();
+        model.setName("test");
+        model.setBucket("bucket");
+        model.setRegion("us-east-1");
+        model.setPartSize(1);
+        model.setPartThreads(2);
+
+        S3ArtifactUploader uploader = new S3ArtifactUploader(context) {
+            @Override
+            AmazonS3 createS3Client() {
+                return s3;
+            }
+
+            @Override
+            String resolveObjectKey(Artifact artifact) {
+                return "artifacts/" + artifact.getEffectivePath(context).getFileName();
+            }
+        };
+        uploader.setUploader(model);
+        return uploader;
+    }
+
+    private static Path write(Path path, int size) throws IOException {
+        byte[] data = new byte[size];
+        new Random().nextBytes(data);
+        Files.write(path, data);
+        return path;
+    }
+
+    private static String sha256(Path path) throws IOException {
+        return ChecksumUtils.checksum(Algorithm.SHA_256, Files.readAllBytes(path));
+    }
+
+    private static class FakeS3 extends AbstractAmazonS3 {
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final Map<String, ObjectMetadata> metadata = new ConcurrentHashMap<>();
+        private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+        private final Map<String, ObjectMetadata> uploadMetadata = new ConcurrentHashMap<>();
+        private final AtomicInteger singleUploads = new AtomicInteger();
+        private final AtomicInteger parts = new AtomicInteger();
+
+        @Override
+        public boolean doesBucketExistV2(String bucketName) {
+            return true;
+        }
+
+        @Override
+        public PutObjectResult putObject(PutObjectRequest request) {
+            singleUploads.incrementAndGet();
+            try {
+                store(request.getKey(), Files.readAllBytes(request.getFile().toPath()), request.getMetadata(), null);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            PutObjectResult result = new PutObjectResult();
+            result.setETag(metadata.get(request.getKey()).getETag());
+            return result;
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+            String uploadId = request.getKey() + "#" + System.nanoTime();
+            uploads.put(uploadId, new ConcurrentHashMap<>());
+            uploadMetadata.put(uploadId, request.getObjectMetadata());
+            InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+            result.setBucketName(request.getBucketName());
+            result.setKey(request.getKey());
+            result.setUploadId(uploadId);
+            return result;
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest request) {
+            parts.incrementAndGet();
+            byte[] data = new byte[(int) request.getPartSize()];
+            try (RandomAccessFile file = new RandomAccessFile(request.getFile(), "r")) {
+                file.seek(request.getFileOffset());
+                file.readFully(data);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            uploads.get(request.getUploadId()).put(request.getPartNumber(), data);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag(md5(data));
+            return result;
+        }
+
+        @Override
+        public PartListing listParts(ListPartsRequest request) {
+            // nothing to resume
+            return new PartListing();
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            Map<Integer, byte[]> received = new TreeMap<>(uploads.remove(request.getUploadId()));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (PartETag part : request.getPartETags()) {
+                byte[] data = received.get(part.getPartNumber());
+                out.write(data, 0, data.length);
+            }
+            // multipart ETags are not the MD5 of the object
+            String etag = "cafebabe-" + received.size();
+            store(request.getKey(), out.toByteArray(), uploadMetadata.remove(request.getUploadId()), etag);
+            CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+            result.setKey(request.getKey());
+            result.setETag(etag);
+            return result;
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+            uploads.remove(request.getUploadId());
+        }
+
+        @Override
+        public ObjectMetadata getObjectMetadata(String bucketName, String key) {
+            ObjectMetadata meta = metadata.get(key);
+            if (null == meta) {
+                AmazonS3Exception e = new AmazonS3Exception("Not Found");
+                e.setStatusCode(404);
+                throw e;
+            }
+            return meta;
+        }
+
+        private void store(String key, byte[] data, ObjectMetadata requested, String etag) {
+            ObjectMetadata meta = null != requested ? requested.clone() : new ObjectMetadata();
+            meta.setHeader(Headers.ETAG, null != etag ? etag : md5(data));
+            objects.put(key, data);
+            metadata.put(key, meta);
+        }
+
+        private static String md5(byte[] data) {
+            try {
+                return ChecksumUtils.checksum(Algorithm.MD5, data);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}